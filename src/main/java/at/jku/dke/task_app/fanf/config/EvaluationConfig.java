@@ -0,0 +1,123 @@
+package at.jku.dke.task_app.fanf.config;
+
+import at.jku.dke.task_app.fanf.evaluation.CompiledTaskCache;
+import at.jku.dke.task_app.fanf.evaluation.EvaluationResultCache;
+import at.jku.dke.task_app.fanf.evaluation.algorithms.Projection;
+import at.jku.dke.task_app.fanf.evaluation.algorithms.ProjectionCache;
+import at.jku.dke.task_app.fanf.evaluation.analysis.normalization.KeysDeterminator;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The evaluation configuration.
+ * <p>
+ * The analyzers are static, so the configured properties are applied to them on startup.
+ */
+@Configuration
+@EnableConfigurationProperties(EvaluationProperties.class)
+public class EvaluationConfig {
+
+    /**
+     * Creates a new instance of class {@link EvaluationConfig}.
+     *
+     * @param properties The evaluation properties.
+     */
+    public EvaluationConfig(EvaluationProperties properties) {
+        KeysDeterminator.configureParallelSearch(properties.getKeySearch().getParallelThreshold(), properties.getKeySearch().getParallelism());
+        Projection.setCanonicalCover(properties.getProjection().isCanonicalCover());
+        ProjectionCache.getShared().setMaxSize(properties.getProjectionCache().getMaxSize());
+    }
+
+    /**
+     * Exposes the statistics of the shared projection cache as metrics.
+     *
+     * @return The meter binder.
+     */
+    @Bean
+    public MeterBinder projectionCacheMetrics() {
+        ProjectionCache cache = ProjectionCache.getShared();
+        return registry -> {
+            Gauge.builder("evaluation.projection.cache.size", cache, ProjectionCache::size)
+                .description("The number of cached projections")
+                .register(registry);
+            FunctionCounter.builder("evaluation.projection.cache.gets", cache, ProjectionCache::getHits)
+                .tag("result", "hit")
+                .description("The number of projections served from the cache")
+                .register(registry);
+            FunctionCounter.builder("evaluation.projection.cache.gets", cache, ProjectionCache::getMisses)
+                .tag("result", "miss")
+                .description("The number of projections computed because they were not cached")
+                .register(registry);
+            FunctionCounter.builder("evaluation.projection.cache.evictions", cache, ProjectionCache::getEvictions)
+                .description("The number of projections evicted from the cache")
+                .register(registry);
+        };
+    }
+
+    /**
+     * Exposes the statistics of the compiled task cache as metrics.
+     *
+     * @param cache The compiled task cache.
+     * @return The meter binder.
+     */
+    @Bean
+    public MeterBinder taskCacheMetrics(CompiledTaskCache cache) {
+        return registry -> {
+            Gauge.builder("evaluation.task.cache.size", cache, CompiledTaskCache::size)
+                .description("The number of cached compiled tasks")
+                .register(registry);
+            FunctionCounter.builder("evaluation.task.cache.gets", cache, CompiledTaskCache::getHits)
+                .tag("result", "hit")
+                .description("The number of compiled tasks served from the cache")
+                .register(registry);
+            FunctionCounter.builder("evaluation.task.cache.gets", cache, CompiledTaskCache::getMisses)
+                .tag("result", "miss")
+                .description("The number of tasks compiled because they were not cached or expired")
+                .register(registry);
+            FunctionCounter.builder("evaluation.task.cache.evictions", cache, CompiledTaskCache::getEvictions)
+                .description("The number of compiled tasks evicted from the cache")
+                .register(registry);
+        };
+    }
+
+    /**
+     * Exposes the statistics of the evaluation result cache as metrics.
+     *
+     * @param cache The evaluation result cache.
+     * @return The meter binder.
+     */
+    @Bean
+    public MeterBinder resultCacheMetrics(EvaluationResultCache cache) {
+        return registry -> {
+            Gauge.builder("evaluation.result.cache.size", cache, EvaluationResultCache::size)
+                .description("The number of cached evaluation results")
+                .register(registry);
+            FunctionCounter.builder("evaluation.result.cache.gets", cache, EvaluationResultCache::getHits)
+                .tag("result", "hit")
+                .description("The number of evaluation results served from the cache")
+                .register(registry);
+            FunctionCounter.builder("evaluation.result.cache.gets", cache, EvaluationResultCache::getMisses)
+                .tag("result", "miss")
+                .description("The number of submissions evaluated because their result was not cached or expired")
+                .register(registry);
+            FunctionCounter.builder("evaluation.result.cache.gets", cache, EvaluationResultCache::getCoalesced)
+                .tag("result", "coalesced")
+                .description("The number of submissions whose result was received from a concurrent evaluation")
+                .register(registry);
+            FunctionCounter.builder("evaluation.result.cache.gets", cache, EvaluationResultCache::getFallbacks)
+                .tag("result", "fallback")
+                .description("The number of submissions evaluated on their own after waiting for a concurrent evaluation")
+                .register(registry);
+            FunctionCounter.builder("evaluation.result.cache.wait.timeouts", cache, EvaluationResultCache::getWaitTimeouts)
+                .description("The number of fallbacks because the concurrent evaluation took too long")
+                .register(registry);
+            FunctionCounter.builder("evaluation.result.cache.evictions", cache, EvaluationResultCache::getEvictions)
+                .description("The number of evaluation results evicted from the cache")
+                .register(registry);
+        };
+    }
+}
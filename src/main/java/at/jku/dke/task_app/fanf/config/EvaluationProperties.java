@@ -0,0 +1,309 @@
+package at.jku.dke.task_app.fanf.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * The configuration properties of the evaluation.
+ */
+@ConfigurationProperties(prefix = "evaluation")
+public class EvaluationProperties {
+
+    private final KeySearch keySearch = new KeySearch();
+    private final Projection projection = new Projection();
+    private final ProjectionCache projectionCache = new ProjectionCache();
+    private final TaskCache taskCache = new TaskCache();
+    private final ResultCache resultCache = new ResultCache();
+
+    /**
+     * Creates a new instance of class {@link EvaluationProperties}.
+     */
+    public EvaluationProperties() {
+    }
+
+    /**
+     * Gets the key search properties.
+     *
+     * @return The key search properties.
+     */
+    public KeySearch getKeySearch() {
+        return keySearch;
+    }
+
+    /**
+     * Gets the projection properties.
+     *
+     * @return The projection properties.
+     */
+    public Projection getProjection() {
+        return projection;
+    }
+
+    /**
+     * Gets the projection cache properties.
+     *
+     * @return The projection cache properties.
+     */
+    public ProjectionCache getProjectionCache() {
+        return projectionCache;
+    }
+
+    /**
+     * Gets the compiled task cache properties.
+     *
+     * @return The compiled task cache properties.
+     */
+    public TaskCache getTaskCache() {
+        return taskCache;
+    }
+
+    /**
+     * Gets the evaluation result cache properties.
+     *
+     * @return The evaluation result cache properties.
+     */
+    public ResultCache getResultCache() {
+        return resultCache;
+    }
+
+    /**
+     * The properties of the minimal key search.
+     */
+    public static class KeySearch {
+
+        private int parallelThreshold = 16;
+        private int parallelism = 0;
+
+        /**
+         * Creates a new instance of class {@link KeySearch}.
+         */
+        public KeySearch() {
+        }
+
+        /**
+         * Gets the minimum number of attributes left to search after pruning from which on keys are searched in parallel.
+         *
+         * @return The parallel threshold.
+         */
+        public int getParallelThreshold() {
+            return parallelThreshold;
+        }
+
+        /**
+         * Sets the minimum number of attributes left to search after pruning from which on keys are searched in parallel.
+         *
+         * @param parallelThreshold The parallel threshold.
+         */
+        public void setParallelThreshold(int parallelThreshold) {
+            this.parallelThreshold = parallelThreshold;
+        }
+
+        /**
+         * Gets the number of worker threads of a parallel key search, 0 meaning the common fork/join pool.
+         *
+         * @return The parallelism.
+         */
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        /**
+         * Sets the number of worker threads of a parallel key search, 0 meaning the common fork/join pool.
+         *
+         * @param parallelism The parallelism.
+         */
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+    }
+
+    /**
+     * The properties of the cache of functional dependencies projected onto subschemes.
+     */
+    public static class ProjectionCache {
+
+        private int maxSize = 1024;
+
+        /**
+         * Creates a new instance of class {@link ProjectionCache}.
+         */
+        public ProjectionCache() {
+        }
+
+        /**
+         * Gets the maximum number of cached projections, 0 disabling the cache.
+         *
+         * @return The maximum size.
+         */
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        /**
+         * Sets the maximum number of cached projections, 0 disabling the cache.
+         *
+         * @param maxSize The maximum size.
+         */
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+    }
+
+    /**
+     * The properties of the cache of tasks compiled for evaluation.
+     */
+    public static class TaskCache {
+
+        private int maxSize = 256;
+        private Duration timeToLive = Duration.ofMinutes(10);
+
+        /**
+         * Creates a new instance of class {@link TaskCache}.
+         */
+        public TaskCache() {
+        }
+
+        /**
+         * Gets the maximum number of cached tasks, 0 disabling the cache.
+         *
+         * @return The maximum size.
+         */
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        /**
+         * Sets the maximum number of cached tasks, 0 disabling the cache.
+         *
+         * @param maxSize The maximum size.
+         */
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        /**
+         * Gets the time after which a cached task expires.
+         *
+         * @return The time to live.
+         */
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+
+        /**
+         * Sets the time after which a cached task expires.
+         *
+         * @param timeToLive The time to live.
+         */
+        public void setTimeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+    }
+
+    /**
+     * The properties of the cache of evaluation results of identical submissions.
+     */
+    public static class ResultCache {
+
+        private int maxSize = 4096;
+        private Duration timeToLive = Duration.ofMinutes(10);
+        private Duration maxWait = Duration.ofSeconds(5);
+
+        /**
+         * Creates a new instance of class {@link ResultCache}.
+         */
+        public ResultCache() {
+        }
+
+        /**
+         * Gets the maximum number of cached results, 0 disabling the cache.
+         *
+         * @return The maximum size.
+         */
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        /**
+         * Sets the maximum number of cached results, 0 disabling the cache.
+         *
+         * @param maxSize The maximum size.
+         */
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        /**
+         * Gets the time after which a cached result expires.
+         *
+         * @return The time to live.
+         */
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+
+        /**
+         * Sets the time after which a cached result expires.
+         *
+         * @param timeToLive The time to live.
+         */
+        public void setTimeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+
+        /**
+         * Gets the maximum time to wait for a concurrent evaluation of an identical submission, 0 disabling the
+         * coalescing of evaluations.
+         *
+         * @return The maximum wait.
+         */
+        public Duration getMaxWait() {
+            return maxWait;
+        }
+
+        /**
+         * Sets the maximum time to wait for a concurrent evaluation of an identical submission, 0 disabling the
+         * coalescing of evaluations.
+         *
+         * @param maxWait The maximum wait.
+         */
+        public void setMaxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+        }
+    }
+
+    /**
+     * The properties of the projection of functional dependencies onto subschemes.
+     */
+    public static class Projection {
+
+        private boolean canonicalCover = false;
+
+        /**
+         * Creates a new instance of class {@link Projection}.
+         */
+        public Projection() {
+        }
+
+        /**
+         * Gets whether normalizations are graded against the canonical cover of the projected dependencies instead of
+         * the resolvents of reduction by resolution, which changes the number of missing dependencies.
+         *
+         * @return Whether the canonical cover is used.
+         */
+        public boolean isCanonicalCover() {
+            return canonicalCover;
+        }
+
+        /**
+         * Sets whether normalizations are graded against the canonical cover of the projected dependencies instead of
+         * the resolvents of reduction by resolution, which changes the number of missing dependencies.
+         *
+         * @param canonicalCover Whether the canonical cover is used.
+         */
+        public void setCanonicalCover(boolean canonicalCover) {
+            this.canonicalCover = canonicalCover;
+        }
+    }
+}
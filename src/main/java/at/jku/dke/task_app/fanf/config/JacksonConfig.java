@@ -0,0 +1,68 @@
+package at.jku.dke.task_app.fanf.config;
+
+import at.jku.dke.task_app.fanf.evaluation.model.NFSolution;
+import at.jku.dke.task_app.fanf.evaluation.model.NFSpecification;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The configuration of the readers and writers of the JSON stored with a task.
+ * <p>
+ * Readers and writers are immutable and thus thread-safe, so they are built once and shared. They are based on a
+ * mapper of their own rather than the one configured by Spring Boot, which ignores unknown properties.
+ */
+@Configuration
+public class JacksonConfig {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Creates a new instance of class {@link JacksonConfig}.
+     */
+    public JacksonConfig() {
+        this.objectMapper = new ObjectMapper();
+    }
+
+    /**
+     * Creates the reader of task specifications.
+     *
+     * @return The specification reader.
+     */
+    @Bean
+    public ObjectReader specificationReader() {
+        return this.objectMapper.readerFor(NFSpecification.class);
+    }
+
+    /**
+     * Creates the writer of task specifications.
+     *
+     * @return The specification writer.
+     */
+    @Bean
+    public ObjectWriter specificationWriter() {
+        return this.objectMapper.writerFor(NFSpecification.class);
+    }
+
+    /**
+     * Creates the reader of task solutions.
+     *
+     * @return The solution reader.
+     */
+    @Bean
+    public ObjectReader solutionReader() {
+        return this.objectMapper.readerFor(NFSolution.class);
+    }
+
+    /**
+     * Creates the writer of task solutions.
+     *
+     * @return The solution writer.
+     */
+    @Bean
+    public ObjectWriter solutionWriter() {
+        return this.objectMapper.writerFor(NFSolution.class);
+    }
+}
@@ -7,7 +7,8 @@
 import at.jku.dke.task_app.fanf.evaluation.model.*;
 import at.jku.dke.task_app.fanf.services.FanfTaskService;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.stream.Collectors;
@@ -19,16 +20,17 @@
 public class TaskController extends BaseTaskController<FanfTask, FanfTaskDto, ModifyFanfTaskDto> {
 
 
-    private final ObjectMapper objectMapper;
+    private final ObjectReader specificationReader;
 
     /**
      * Creates a new instance of class {@link TaskController}.
      *
-     * @param taskService The task service.
+     * @param taskService         The task service.
+     * @param specificationReader The reader of task specifications.
      */
-    public TaskController(FanfTaskService taskService, ObjectMapper objectMapper) {
+    public TaskController(FanfTaskService taskService, @Qualifier("specificationReader") ObjectReader specificationReader) {
         super(taskService);
-        this.objectMapper = objectMapper;
+        this.specificationReader = specificationReader;
     }
 
     @Override
@@ -37,10 +39,10 @@ protected FanfTaskDto mapToDto(FanfTask task) {
         FanfTaskDto fanfTaskDto = new FanfTaskDto();
         fanfTaskDto.setSubtype(task.getRdbdType());
 
-        NFSpecificationImp nfSpecification;
+        NFSpecification nfSpecification;
 
         try {
-            nfSpecification = objectMapper.readValue(task.getSpecification(), NFSpecificationImp.class);
+            nfSpecification = specificationReader.readValue(task.getSpecification());
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
@@ -52,23 +54,13 @@ protected FanfTaskDto mapToDto(FanfTask task) {
 
         switch (fanfTaskDto.getSubtype()) {
             case 0:
-                KeysDeterminationSpecification keysDeterminationSpecification = new KeysDeterminationSpecification();
-                try {
-                    keysDeterminationSpecification = objectMapper.readValue(task.getSpecification(), KeysDeterminationSpecification.class);
-                } catch (JsonProcessingException e) {
-                    throw new RuntimeException(e);
-                }
+                KeysDeterminationSpecification keysDeterminationSpecification = (KeysDeterminationSpecification) nfSpecification;
 
                 fanfTaskDto.setKeysDeterminationPenaltyPerIncorrectKey(keysDeterminationSpecification.getPenaltyPerIncorrectKey());
                 fanfTaskDto.setKeysDeterminationPenaltyPerMissingKey(keysDeterminationSpecification.getPenaltyPerMissingKey());
                 break;
             case 1:
-                NormalizationSpecification normalizationSpecification = new NormalizationSpecification();
-                try {
-                    normalizationSpecification = objectMapper.readValue(task.getSpecification(), NormalizationSpecification.class);
-                } catch (JsonProcessingException e) {
-                    throw new RuntimeException(e);
-                }
+                NormalizationSpecification normalizationSpecification = (NormalizationSpecification) nfSpecification;
 
 
                 if (normalizationSpecification.getTargetLevel().equals(NormalformLevel.BOYCE_CODD)) {
@@ -99,12 +91,7 @@ protected FanfTaskDto mapToDto(FanfTask task) {
                 fanfTaskDto.setNormalizationPenaltyPerIncorrectNFRelation(normalizationSpecification.getPenaltyPerIncorrectNFRelation());
                 break;
             case 2:
-                MinimalCoverSpecification minimalCoverSpecification = new MinimalCoverSpecification();
-                try {
-                    minimalCoverSpecification = objectMapper.readValue(task.getSpecification(), MinimalCoverSpecification.class);
-                } catch (JsonProcessingException e) {
-                    throw new RuntimeException(e);
-                }
+                MinimalCoverSpecification minimalCoverSpecification = (MinimalCoverSpecification) nfSpecification;
 
 
                 fanfTaskDto.setMinimalCoverPenaltyPerNonCanonicalDependency(minimalCoverSpecification.getPenaltyPerNonCanonicalDependency());
@@ -115,12 +102,7 @@ protected FanfTaskDto mapToDto(FanfTask task) {
                 fanfTaskDto.setMinimalCoverPenaltyPerIncorrectDependencyVsSolution(minimalCoverSpecification.getPenaltyPerIncorrectDependencyVsSolution());
                 break;
             case 3:
-                AttributeClosureSpecification attributeClosureSpecification = new AttributeClosureSpecification();
-                try {
-                    attributeClosureSpecification = objectMapper.readValue(task.getSpecification(), AttributeClosureSpecification.class);
-                } catch (JsonProcessingException e) {
-                    throw new RuntimeException(e);
-                }
+                AttributeClosureSpecification attributeClosureSpecification = (AttributeClosureSpecification) nfSpecification;
 
 
                 fanfTaskDto.setAttributeClosureBaseAttributes(attributeClosureSpecification.getBaseAttributes().toString().replace("[", "").replace("]", ""));
@@ -128,12 +110,7 @@ protected FanfTaskDto mapToDto(FanfTask task) {
                 fanfTaskDto.setAttributeClosurePenaltyPerIncorrectAttribute(attributeClosureSpecification.getPenaltyPerIncorrectAttribute());
                 break;
             case 4:
-                NormalformDeterminationSpecification normalformDeterminationSpecification = new NormalformDeterminationSpecification();
-                try {
-                    normalformDeterminationSpecification = objectMapper.readValue(task.getSpecification(), NormalformDeterminationSpecification.class);
-                } catch (JsonProcessingException e) {
-                    throw new RuntimeException(e);
-                }
+                NormalformDeterminationSpecification normalformDeterminationSpecification = (NormalformDeterminationSpecification) nfSpecification;
 
 
                 fanfTaskDto.setNormalFormDeterminationPenaltyForIncorrectOverallNormalform(normalformDeterminationSpecification.getPenaltyForIncorrectNFOverall());
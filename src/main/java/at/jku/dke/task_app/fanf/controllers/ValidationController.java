@@ -0,0 +1,47 @@
+package at.jku.dke.task_app.fanf.controllers;
+
+import at.jku.dke.etutor.task_app.auth.AuthConstants;
+import at.jku.dke.task_app.fanf.dto.FanfSubmissionDto;
+import at.jku.dke.task_app.fanf.dto.ValidationResultDto;
+import at.jku.dke.task_app.fanf.evaluation.EvaluationService;
+import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controller for validating inputs while they are being typed.
+ * <p>
+ * Unlike a submission in mode <code>RUN</code>, a validation is neither persisted nor passed through the submission
+ * service, so it is cheap enough to be requested on every change of the input. It requires the same API key role as
+ * submitting an input.
+ */
+@RestController
+@RequestMapping("/api/validation")
+public class ValidationController {
+
+    private final EvaluationService evaluationService;
+
+    /**
+     * Creates a new instance of class {@link ValidationController}.
+     *
+     * @param evaluationService The evaluation service.
+     */
+    public ValidationController(EvaluationService evaluationService) {
+        this.evaluationService = evaluationService;
+    }
+
+    /**
+     * Validates a possibly incomplete input of a task.
+     *
+     * @param taskId The task identifier.
+     * @param input  The input to validate.
+     * @return The syntax errors and warnings.
+     */
+    @PreAuthorize(AuthConstants.SUBMIT_AUTHORITY)
+    @PostMapping(value = "/{taskId}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ValidationResultDto> validate(@PathVariable long taskId, @Valid @RequestBody FanfSubmissionDto input) {
+        return ResponseEntity.ok(this.evaluationService.validate(taskId, input.input()));
+    }
+}
@@ -3,6 +3,7 @@
 import at.jku.dke.etutor.task_app.data.entities.BaseTask;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 import org.hibernate.annotations.JdbcTypeCode;
@@ -12,6 +13,7 @@
 
 @Entity
 @Table(name = "task")
+@EntityListeners(FanfTaskListener.class)
 public class FanfTask extends BaseTask {
 
     @NotNull
@@ -21,6 +23,9 @@ public class FanfTask extends BaseTask {
     @NotNull
     @Column(name = "rdbd_type", nullable = false)
     private Integer rdbdType;
+    @Column(name = "solution")
+    @JdbcTypeCode(SqlTypes.JSON)
+    private String solution;
 
     public FanfTask(){
         super();
@@ -41,6 +46,14 @@ public void setSpecification(String specification) {
         this.specification = specification;
     }
 
+    public String getSolution() {
+        return solution;
+    }
+
+    public void setSolution(String solution) {
+        this.solution = solution;
+    }
+
     public Integer getRdbdType() {
         return rdbdType;
     }
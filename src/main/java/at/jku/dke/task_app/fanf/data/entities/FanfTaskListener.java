@@ -0,0 +1,53 @@
+package at.jku.dke.task_app.fanf.data.entities;
+
+import at.jku.dke.task_app.fanf.evaluation.CompiledTaskCache;
+import at.jku.dke.task_app.fanf.evaluation.EvaluationResultCache;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Entity listener that removes updated and deleted {@link FanfTask}s from the {@link CompiledTaskCache} and their
+ * evaluation results from the {@link EvaluationResultCache}.
+ */
+public class FanfTaskListener {
+
+    private final CompiledTaskCache compiledTaskCache;
+    private final EvaluationResultCache resultCache;
+
+    /**
+     * Creates a new instance of class {@link FanfTaskListener}.
+     *
+     * @param compiledTaskCache The compiled task cache.
+     * @param resultCache       The evaluation result cache.
+     */
+    public FanfTaskListener(CompiledTaskCache compiledTaskCache, EvaluationResultCache resultCache) {
+        this.compiledTaskCache = compiledTaskCache;
+        this.resultCache = resultCache;
+    }
+
+    /**
+     * Invalidates the cached compilation and evaluation results of the updated or deleted task, both immediately and,
+     * as concurrent evaluations may cache the old state until then, once the transaction has completed.
+     *
+     * @param task The updated or deleted task.
+     */
+    @PostUpdate
+    @PostRemove
+    public void invalidate(FanfTask task) {
+        long id = task.getId();
+        this.compiledTaskCache.invalidate(id);
+        this.resultCache.invalidate(id);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    compiledTaskCache.invalidate(id);
+                    resultCache.invalidate(id);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package at.jku.dke.task_app.fanf.dto;
+
+import java.util.List;
+
+/**
+ * This class represents a data transfer object for the result of validating a possibly incomplete input.
+ *
+ * @param syntaxErrors The syntax errors, each stating the line and position of the offending token.
+ * @param warnings     The attributes, functional dependencies or relation IDs the evaluation would reject, only checked if
+ *                     there are no syntax errors.
+ */
+public record ValidationResultDto(List<String> syntaxErrors, List<String> warnings) {
+}
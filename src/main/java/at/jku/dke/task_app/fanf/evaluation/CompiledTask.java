@@ -0,0 +1,139 @@
+package at.jku.dke.task_app.fanf.evaluation;
+
+import at.jku.dke.task_app.fanf.data.entities.FanfTask;
+import at.jku.dke.task_app.fanf.evaluation.model.NFSolution;
+import at.jku.dke.task_app.fanf.evaluation.model.NFSpecification;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+
+/**
+ * A task ready for evaluation, i.e., with its specification deserialized and its solution determined, so that it can
+ * be shared by all evaluations of the task without accessing the database.
+ * <br><br>
+ * Instances are immutable: The specification is handed out as a copy only, and the getters of {@link NFSolution}
+ * return copies as well.
+ */
+public final class CompiledTask {
+    private static final Logger LOG = LoggerFactory.getLogger(CompiledTask.class);
+
+    private final long id;
+    private final int rdbdType;
+    private final BigDecimal maxPoints;
+    private final NFSpecification specification;
+    private final NFSolution solution;
+
+    /**
+     * Creates a new instance of class {@link CompiledTask}. Use {@link #compile(FanfTask, ObjectReader, ObjectReader, ObjectWriter)}
+     * to compile a stored task.
+     *
+     * @param id            The task identifier.
+     * @param rdbdType      The RDBD type of the task.
+     * @param maxPoints     The maximum points of the task.
+     * @param specification The specification of the task.
+     * @param solution      The solution of the task.
+     */
+    CompiledTask(long id, int rdbdType, BigDecimal maxPoints, NFSpecification specification, NFSolution solution) {
+        this.id = id;
+        this.rdbdType = rdbdType;
+        this.maxPoints = maxPoints;
+        this.specification = specification;
+        this.solution = solution;
+    }
+
+    /**
+     * Compiles the supplied task. A stored solution that is missing, unreadable or of an outdated version (e.g., of a
+     * task created before solutions were precomputed) is determined anew and stored with the task.
+     *
+     * @param task                The task.
+     * @param specificationReader The reader of task specifications.
+     * @param solutionReader      The reader of task solutions.
+     * @param solutionWriter      The writer of task solutions.
+     * @return The compiled task.
+     * @throws IllegalStateException If the specification could not be deserialized or the solution not be determined.
+     */
+    public static CompiledTask compile(FanfTask task, ObjectReader specificationReader, ObjectReader solutionReader, ObjectWriter solutionWriter) {
+        Class<? extends NFSpecification> specificationClass = SolutionDeterminator.getSpecificationClass(task.getRdbdType());
+        NFSpecification specification;
+        try {
+            specification = specificationClass.cast(specificationReader.readValue(task.getSpecification()));
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not deserialize " + specificationClass.getSimpleName() + " because: " + e.getMessage(), e);
+        }
+
+        if (task.getSolution() != null) {
+            try {
+                NFSolution solution = solutionReader.readValue(task.getSolution());
+                if (solution.isCurrent()) {
+                    return new CompiledTask(task.getId(), task.getRdbdType(), task.getMaxPoints(), specification, solution);
+                }
+            } catch (Exception e) {
+                LOG.warn("Could not deserialize solution of task {}, determining it anew", task.getId(), e);
+            }
+        }
+
+        NFSolution solution;
+        try {
+            solution = SolutionDeterminator.determine(specification);
+            task.setSolution(solutionWriter.writeValueAsString(solution));
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not determine NFSolution because: " + e.getMessage(), e);
+        }
+        return new CompiledTask(task.getId(), task.getRdbdType(), task.getMaxPoints(), specification, solution);
+    }
+
+    /**
+     * Gets the identifier of the task.
+     *
+     * @return The task identifier.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Gets the type of the task.
+     *
+     * @return The task type.
+     */
+    public int getRdbdType() {
+        return rdbdType;
+    }
+
+    /**
+     * Gets the maximum points of the task.
+     *
+     * @return The maximum points.
+     */
+    public BigDecimal getMaxPoints() {
+        return maxPoints;
+    }
+
+    /**
+     * Gets a copy of the specification of the task.
+     *
+     * @param specificationClass The expected class of the specification.
+     * @param <T>                The type of the specification.
+     * @return A copy of the specification.
+     * @throws ClassCastException If the specification is not of the expected class.
+     */
+    public <T extends NFSpecification> T getSpecification(Class<T> specificationClass) {
+        try {
+            return specificationClass.cast(specification.clone());
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Gets the solution of the task. It must not be modified.
+     *
+     * @return The solution.
+     */
+    public NFSolution getSolution() {
+        return solution;
+    }
+}
@@ -0,0 +1,160 @@
+package at.jku.dke.task_app.fanf.evaluation;
+
+import at.jku.dke.task_app.fanf.config.EvaluationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongFunction;
+
+/**
+ * A bounded, least-recently-used cache of {@link CompiledTask}s by task identifier, so that evaluating a submission
+ * of a recently evaluated task neither accesses the database nor deserializes the specification.
+ * <p>
+ * Entries are invalidated whenever a task is updated or deleted and expire after a configurable time to live, which
+ * bounds how long changes made by other instances of the application go unnoticed. A task that is invalidated while
+ * it is being compiled is not cached, so that a compilation of the old state never outlives the invalidation.
+ * <p>
+ * All methods are thread-safe. Tasks are compiled without holding the lock.
+ */
+@Component
+public class CompiledTaskCache {
+
+    private final LinkedHashMap<Long, Entry> tasks;
+    private final int maxSize;
+    private final long timeToLive;
+    private long invalidations;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Creates a new instance of class {@link CompiledTaskCache}.
+     *
+     * @param properties The evaluation properties.
+     */
+    public CompiledTaskCache(EvaluationProperties properties) {
+        this(properties.getTaskCache().getMaxSize(), properties.getTaskCache().getTimeToLive());
+    }
+
+    /**
+     * Creates a new instance of class {@link CompiledTaskCache}.
+     *
+     * @param maxSize    The maximum number of cached tasks, 0 disabling the cache.
+     * @param timeToLive The time after which a cached task expires.
+     */
+    public CompiledTaskCache(int maxSize, Duration timeToLive) {
+        if (maxSize < 0)
+            throw new IllegalArgumentException("The maximum size of a task cache must not be negative.");
+        if (timeToLive.isNegative())
+            throw new IllegalArgumentException("The time to live of a task cache must not be negative.");
+
+        this.maxSize = maxSize;
+        this.timeToLive = timeToLive.toNanos();
+        this.tasks = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                if (size() > CompiledTaskCache.this.maxSize) {
+                    CompiledTaskCache.this.evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached compiled task with the supplied identifier, compiling and caching it first if it is missing or
+     * expired.
+     *
+     * @param id       The task identifier.
+     * @param compiler The function compiling the task with the supplied identifier.
+     * @return The compiled task.
+     */
+    public CompiledTask get(long id, LongFunction<CompiledTask> compiler) {
+        long invalidationsBefore;
+        synchronized (this) {
+            Entry entry = this.tasks.get(id);
+            if (entry != null && System.nanoTime() - entry.compiledAt() < this.timeToLive) {
+                this.hits++;
+                return entry.task();
+            }
+            if (entry != null)
+                this.tasks.remove(id);
+            this.misses++;
+            invalidationsBefore = this.invalidations;
+        }
+
+        long compiledAt = System.nanoTime();
+        CompiledTask task = compiler.apply(id);
+        synchronized (this) {
+            if (this.maxSize > 0 && this.invalidations == invalidationsBefore)
+                this.tasks.put(id, new Entry(task, compiledAt));
+        }
+        return task;
+    }
+
+    /**
+     * Removes the task with the supplied identifier from the cache.
+     *
+     * @param id The task identifier.
+     */
+    public synchronized void invalidate(long id) {
+        this.invalidations++;
+        this.tasks.remove(id);
+    }
+
+    /**
+     * Removes all tasks from the cache.
+     */
+    public synchronized void clear() {
+        this.invalidations++;
+        this.tasks.clear();
+    }
+
+    /**
+     * Gets the number of cached tasks, including expired ones not yet removed.
+     *
+     * @return The number of cached tasks.
+     */
+    public synchronized int size() {
+        return this.tasks.size();
+    }
+
+    /**
+     * Gets the number of tasks served from the cache.
+     *
+     * @return The number of hits.
+     */
+    public synchronized long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * Gets the number of tasks compiled because they were not cached or expired.
+     *
+     * @return The number of misses.
+     */
+    public synchronized long getMisses() {
+        return this.misses;
+    }
+
+    /**
+     * Gets the number of tasks evicted from the cache because it was full.
+     *
+     * @return The number of evictions.
+     */
+    public synchronized long getEvictions() {
+        return this.evictions;
+    }
+
+    /**
+     * A cached task.
+     *
+     * @param task       The compiled task.
+     * @param compiledAt The value of {@link System#nanoTime()} when the compilation started.
+     */
+    private record Entry(CompiledTask task, long compiledAt) {
+    }
+}
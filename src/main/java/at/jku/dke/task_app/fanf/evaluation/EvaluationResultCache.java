@@ -0,0 +1,284 @@
+package at.jku.dke.task_app.fanf.evaluation;
+
+import at.jku.dke.etutor.task_app.dto.GradingDto;
+import at.jku.dke.etutor.task_app.dto.SubmissionMode;
+import at.jku.dke.task_app.fanf.config.EvaluationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A bounded, least-recently-used cache of evaluation results, so that a submission identical to a recently evaluated
+ * one (after canonicalization, see {@link SubmissionCanonicalizer}) is not analyzed again.
+ * <p>
+ * A result is only served for the compiled task it was computed for: Once a task is compiled anew, e.g., after it was
+ * updated, its previous results are ignored. They are also removed whenever the task is updated or deleted, and all
+ * results expire after a configurable time to live.
+ * <p>
+ * Concurrent evaluations of identical submissions are coalesced: Only the first one is evaluated, while the others wait
+ * for its result. A caller that waited longer than a configurable time, or whose result could not be computed by the
+ * first one, evaluates the submission on its own.
+ * <p>
+ * Each call is counted exactly once: as a hit, a miss, a coalesced evaluation whose result was received, or a fallback
+ * to an own evaluation after waiting for a coalesced one.
+ * <p>
+ * All methods are thread-safe. Results are computed and awaited without holding the lock.
+ */
+@Component
+public class EvaluationResultCache {
+
+    private final LinkedHashMap<Key, Entry> results;
+    private final Map<Key, InFlight> inFlight;
+    private final int maxSize;
+    private final long timeToLive;
+    private final long maxWait;
+    private long hits;
+    private long misses;
+    private long coalesced;
+    private long fallbacks;
+    private long waitTimeouts;
+    private long evictions;
+
+    /**
+     * Creates a new instance of class {@link EvaluationResultCache}.
+     *
+     * @param properties The evaluation properties.
+     */
+    public EvaluationResultCache(EvaluationProperties properties) {
+        this(properties.getResultCache().getMaxSize(), properties.getResultCache().getTimeToLive(), properties.getResultCache().getMaxWait());
+    }
+
+    /**
+     * Creates a new instance of class {@link EvaluationResultCache}.
+     *
+     * @param maxSize    The maximum number of cached results, 0 disabling the cache.
+     * @param timeToLive The time after which a cached result expires.
+     * @param maxWait    The maximum time to wait for a concurrent evaluation of an identical submission, 0 disabling
+     *                   the coalescing of evaluations.
+     */
+    public EvaluationResultCache(int maxSize, Duration timeToLive, Duration maxWait) {
+        if (maxSize < 0)
+            throw new IllegalArgumentException("The maximum size of a result cache must not be negative.");
+        if (timeToLive.isNegative())
+            throw new IllegalArgumentException("The time to live of a result cache must not be negative.");
+        if (maxWait.isNegative())
+            throw new IllegalArgumentException("The maximum wait of a result cache must not be negative.");
+
+        this.maxSize = maxSize;
+        this.timeToLive = timeToLive.toNanos();
+        this.maxWait = maxWait.toNanos();
+        this.inFlight = new HashMap<>();
+        this.results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > EvaluationResultCache.this.maxSize) {
+                    EvaluationResultCache.this.evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached result for the supplied key and compiled task. If it is missing, expired or was computed for
+     * another compilation of the task, the result of a concurrent evaluation of the same key and task is awaited, or
+     * else the submission is evaluated and the result cached.
+     *
+     * @param key       The key of the submission.
+     * @param task      The compiled task the submission is evaluated against.
+     * @param evaluator The function evaluating the submission.
+     * @return The evaluation result.
+     * @throws Exception If the evaluation failed, in which case nothing is cached.
+     */
+    public GradingDto get(Key key, CompiledTask task, Callable<GradingDto> evaluator) throws Exception {
+        CompletableFuture<GradingDto> awaited = null;
+        CompletableFuture<GradingDto> leading = null;
+        synchronized (this) {
+            Entry entry = this.results.get(key);
+            if (entry != null && entry.task() == task && System.nanoTime() - entry.cachedAt() < this.timeToLive) {
+                this.hits++;
+                return entry.result();
+            }
+            if (entry != null)
+                this.results.remove(key);
+
+            InFlight evaluation = this.inFlight.get(key);
+            if (evaluation != null && evaluation.task() == task && this.maxWait > 0) {
+                awaited = evaluation.result();
+            } else {
+                this.misses++;
+                if (evaluation == null) {
+                    leading = new CompletableFuture<>();
+                    this.inFlight.put(key, new InFlight(task, leading));
+                }
+            }
+        }
+
+        if (awaited != null) {
+            try {
+                GradingDto result = awaited.get(this.maxWait, TimeUnit.NANOSECONDS);
+                synchronized (this) {
+                    this.coalesced++;
+                }
+                return result;
+            } catch (TimeoutException e) {
+                synchronized (this) {
+                    this.waitTimeouts++;
+                    this.fallbacks++;
+                }
+            } catch (ExecutionException e) {
+                // The evaluation failed for the first caller, so it is up to each caller to report its failure.
+                synchronized (this) {
+                    this.fallbacks++;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw e;
+            }
+        }
+
+        GradingDto sharedResult = null;
+        try {
+            long cachedAt = System.nanoTime();
+            GradingDto result = evaluator.call();
+            // The criteria are copied, as the result is shared by all identical submissions.
+            sharedResult = new GradingDto(result.maxPoints(), result.points(), result.generalFeedback(), result.criteria() == null ? null : List.copyOf(result.criteria()));
+            synchronized (this) {
+                if (this.maxSize > 0)
+                    this.results.put(key, new Entry(task, sharedResult, cachedAt));
+            }
+            return sharedResult;
+        } finally {
+            if (leading != null) {
+                synchronized (this) {
+                    this.inFlight.remove(key);
+                }
+                if (sharedResult != null)
+                    leading.complete(sharedResult);
+                else
+                    leading.completeExceptionally(new IllegalStateException("The evaluation of a coalesced submission failed."));
+            }
+        }
+    }
+
+    /**
+     * Removes all results of the task with the supplied identifier from the cache.
+     *
+     * @param taskId The task identifier.
+     */
+    public synchronized void invalidate(long taskId) {
+        this.results.keySet().removeIf(key -> key.taskId() == taskId);
+    }
+
+    /**
+     * Removes all results from the cache.
+     */
+    public synchronized void clear() {
+        this.results.clear();
+    }
+
+    /**
+     * Gets the number of cached results, including expired ones not yet removed.
+     *
+     * @return The number of cached results.
+     */
+    public synchronized int size() {
+        return this.results.size();
+    }
+
+    /**
+     * Gets the number of results served from the cache.
+     *
+     * @return The number of hits.
+     */
+    public synchronized long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * Gets the number of submissions evaluated because their result was not cached or expired.
+     *
+     * @return The number of misses.
+     */
+    public synchronized long getMisses() {
+        return this.misses;
+    }
+
+    /**
+     * Gets the number of submissions whose result was received from a concurrent evaluation.
+     *
+     * @return The number of coalesced evaluations.
+     */
+    public synchronized long getCoalesced() {
+        return this.coalesced;
+    }
+
+    /**
+     * Gets the number of submissions evaluated on their own after waiting for a concurrent evaluation, because it took
+     * too long or failed.
+     *
+     * @return The number of fallbacks.
+     */
+    public synchronized long getFallbacks() {
+        return this.fallbacks;
+    }
+
+    /**
+     * Gets the number of fallbacks because the concurrent evaluation took too long.
+     *
+     * @return The number of wait timeouts.
+     */
+    public synchronized long getWaitTimeouts() {
+        return this.waitTimeouts;
+    }
+
+    /**
+     * Gets the number of results evicted from the cache because it was full.
+     *
+     * @return The number of evictions.
+     */
+    public synchronized long getEvictions() {
+        return this.evictions;
+    }
+
+    /**
+     * The key of a cached result.
+     *
+     * @param taskId        The task identifier.
+     * @param submission    The canonical form of the submission.
+     * @param feedbackLevel The requested feedback level.
+     * @param language      The requested language.
+     * @param mode          The submission mode.
+     */
+    public record Key(long taskId, String submission, int feedbackLevel, String language, SubmissionMode mode) {
+    }
+
+    /**
+     * A cached result.
+     *
+     * @param task     The compiled task the result was computed for.
+     * @param result   The evaluation result.
+     * @param cachedAt The value of {@link System#nanoTime()} when the evaluation started.
+     */
+    private record Entry(CompiledTask task, GradingDto result, long cachedAt) {
+    }
+
+    /**
+     * An evaluation in progress.
+     *
+     * @param task   The compiled task the submission is evaluated against.
+     * @param result The future result of the evaluation.
+     */
+    private record InFlight(CompiledTask task, CompletableFuture<GradingDto> result) {
+    }
+}
@@ -7,6 +7,8 @@
 import at.jku.dke.task_app.fanf.data.entities.FanfTask;
 import at.jku.dke.task_app.fanf.data.repositories.FanfTaskRepository;
 import at.jku.dke.task_app.fanf.dto.FanfSubmissionDto;
+import at.jku.dke.task_app.fanf.dto.ValidationResultDto;
+import at.jku.dke.task_app.fanf.evaluation.analysis.NFAnalysis;
 import at.jku.dke.task_app.fanf.evaluation.analysis.closure.AttributeClosureAnalysis;
 import at.jku.dke.task_app.fanf.evaluation.analysis.closure.AttributeClosureAnalyzer;
 import at.jku.dke.task_app.fanf.evaluation.analysis.keys.KeysAnalysis;
@@ -22,23 +24,25 @@
 import at.jku.dke.task_app.fanf.evaluation.analysis.normalization.NormalizationAnalyzer;
 import at.jku.dke.task_app.fanf.evaluation.analysis.normalization.NormalizationAnalyzerConfig;
 import at.jku.dke.task_app.fanf.evaluation.model.*;
-import at.jku.dke.task_app.fanf.parser.NFLexer;
-import at.jku.dke.task_app.fanf.parser.NFParser;
 import at.jku.dke.task_app.fanf.parser.NFParserErrorCollector;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import at.jku.dke.task_app.fanf.parser.NFParserFacade;
+import at.jku.dke.task_app.fanf.parser.NFRule;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import jakarta.persistence.EntityNotFoundException;
-import org.antlr.v4.runtime.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.context.MessageSourceAutoConfiguration;
 import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
 import org.springframework.context.MessageSource;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -50,17 +54,39 @@ public class EvaluationService {
 
     private final FanfTaskRepository taskRepository;
     private final MessageSource messageSource;
+    private final CompiledTaskCache compiledTaskCache;
+    private final EvaluationResultCache resultCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectReader specificationReader;
+    private final ObjectReader solutionReader;
+    private final ObjectWriter solutionWriter;
 
 
     /**
      * Creates a new instance of class {@link EvaluationService}.
      *
-     * @param taskRepository The task repository.
-     * @param messageSource  The message source.
+     * @param taskRepository      The task repository.
+     * @param messageSource       The message source.
+     * @param compiledTaskCache   The compiled task cache.
+     * @param resultCache         The evaluation result cache.
+     * @param transactionTemplate The transaction template.
+     * @param specificationReader The reader of task specifications.
+     * @param solutionReader      The reader of task solutions.
+     * @param solutionWriter      The writer of task solutions.
      */
-    public EvaluationService(FanfTaskRepository taskRepository, MessageSource messageSource, HttpMessageConverters messageConverters, MessageSourceAutoConfiguration messageSourceAutoConfiguration) {
+    public EvaluationService(FanfTaskRepository taskRepository, MessageSource messageSource, HttpMessageConverters messageConverters, MessageSourceAutoConfiguration messageSourceAutoConfiguration,
+                             CompiledTaskCache compiledTaskCache, EvaluationResultCache resultCache, TransactionTemplate transactionTemplate,
+                             @Qualifier("specificationReader") ObjectReader specificationReader,
+                             @Qualifier("solutionReader") ObjectReader solutionReader,
+                             @Qualifier("solutionWriter") ObjectWriter solutionWriter) {
         this.taskRepository = taskRepository;
         this.messageSource = messageSource;
+        this.compiledTaskCache = compiledTaskCache;
+        this.resultCache = resultCache;
+        this.transactionTemplate = transactionTemplate;
+        this.specificationReader = specificationReader;
+        this.solutionReader = solutionReader;
+        this.solutionWriter = solutionWriter;
     }
 
     /**
@@ -69,79 +95,112 @@ public EvaluationService(FanfTaskRepository taskRepository, MessageSource messag
      * @param submission The input to evaluate.
      * @return The evaluation result.
      */
-    @Transactional
     public GradingDto evaluate(SubmitSubmissionDto<FanfSubmissionDto> submission) {
-        // find task
-        FanfTask task = this.taskRepository.findById(submission.taskId()).orElseThrow(() -> new EntityNotFoundException("Task " + submission.taskId() + " does not exist."));
-        LOG.info("Evaluating submission for task {}", task.getId());
+        LOG.info("Evaluating submission for task {}", submission.taskId());
         try {
-            switch (task.getRdbdType()) {
-                case 0:
-                    return evaluateKeyDetermination(task, submission);
-                case 1:
-                    return evaluateNormalization(task, submission);
-                case 2:
-                    return evaluateMinimalCover(task, submission);
-                case 3:
-                    return evaluateAttributeClosure(task, submission);
-                case 4:
-                    return evaluateNormalFormDetermination(task, submission);
-                default:
-                    throw new IllegalArgumentException("Invalid task type.");
-            }
+            // find task
+            CompiledTask task = this.compiledTaskCache.get(submission.taskId(), this::compileTask);
+
+            return switch (task.getRdbdType()) {
+                case 0 -> evaluate(task, submission, NFRule.KEY_SET_SUBMISSION, SubmissionCanonicalizer::canonicalizeKeys, this::evaluateKeyDetermination);
+                case 1 -> evaluate(task, submission, NFRule.RELATION_SET_SUBMISSION, SubmissionCanonicalizer::canonicalizeRelations, this::evaluateNormalization);
+                case 2 -> evaluate(task, submission, NFRule.FUNCTIONAL_DEPENDENCY_SET_SUBMISSION, SubmissionCanonicalizer::canonicalizeDependencies, this::evaluateMinimalCover);
+                case 3 -> evaluate(task, submission, NFRule.ATTRIBUTE_SET_SUBMISSION, SubmissionCanonicalizer::canonicalizeAttributes, this::evaluateAttributeClosure);
+                case 4 -> evaluate(task, submission, NFRule.NORMAL_FORM_SUBMISSION, SubmissionCanonicalizer::canonicalize, this::evaluateNormalFormDetermination);
+                default -> throw new IllegalArgumentException("Invalid task type.");
+            };
+        } catch (EntityNotFoundException e) {
+            throw e;
         } catch (Exception e) {
-            LOG.error("Error evaluating submission for task {}", task.getId(), e);
+            LOG.error("Error evaluating submission for task {}", submission.taskId(), e);
             return new GradingDto(BigDecimal.ZERO, BigDecimal.ZERO, e.getMessage(), null);
         }
 
 
     }
 
-    private GradingDto evaluateNormalFormDetermination(FanfTask task, SubmitSubmissionDto<FanfSubmissionDto> submission) throws Exception {
-        String submissionString = submission.submission().input();
+    /**
+     * Parses the submission once and evaluates the parsed model. Identical submissions share their result, unless they
+     * contain syntax errors, whose positions differ: Such a submission is evaluated without a parsed model, so that its
+     * syntax errors are collected.
+     */
+    private <T> GradingDto evaluate(CompiledTask task, SubmitSubmissionDto<FanfSubmissionDto> submission, NFRule<T> rule,
+                                    Function<T, String> canonicalizer, SubmissionEvaluator<T> evaluator) throws Exception {
+        T parsed = NFParserFacade.tryParse(submission.submission().input(), rule);
+        if (parsed == null) {
+            return evaluator.evaluate(task, submission, null);
+        }
+        EvaluationResultCache.Key key = new EvaluationResultCache.Key(task.getId(), canonicalizer.apply(parsed), submission.feedbackLevel(), submission.language(), submission.mode());
+        return this.resultCache.get(key, task, () -> evaluator.evaluate(task, submission, parsed));
+    }
+
+    /**
+     * Validates a possibly incomplete input of a task, e.g., while it is being typed, without evaluating or persisting
+     * it. The input is only parsed and checked for attributes or functional dependencies not found in the base relation
+     * and, for normalizations, duplicate relation IDs.
+     *
+     * @param taskId The task identifier.
+     * @param input  The input to validate.
+     * @return The syntax errors and warnings.
+     * @throws EntityNotFoundException If the task does not exist.
+     */
+    public ValidationResultDto validate(long taskId, String input) {
+        CompiledTask task = this.compiledTaskCache.get(taskId, this::compileTask);
+        Relation baseRelation = task.getSpecification(NFSpecification.class).getBaseRelation();
+        NFParserErrorCollector errorCollector = new NFParserErrorCollector();
+
+        List<String> warnings = switch (task.getRdbdType()) {
+            case 0 -> {
+                Set<Key> keys = NFParserFacade.parse(input, NFRule.KEY_SET_SUBMISSION, errorCollector);
+                yield errorCollector.getSyntaxErrors().isEmpty() ? checkKeys(keys, baseRelation) : List.of();
+            }
+            case 1 -> {
+                Set<IdentifiedRelation> relations = NFParserFacade.parse(input, NFRule.RELATION_SET_SUBMISSION, errorCollector);
+                yield errorCollector.getSyntaxErrors().isEmpty() ? checkRelations(relations, baseRelation) : List.of();
+            }
+            case 2 -> {
+                Set<FunctionalDependency> dependencies = NFParserFacade.parse(input, NFRule.FUNCTIONAL_DEPENDENCY_SET_SUBMISSION, errorCollector);
+                yield errorCollector.getSyntaxErrors().isEmpty() ? checkDependencies(dependencies, baseRelation) : List.of();
+            }
+            case 3 -> {
+                Set<String> attributes = NFParserFacade.parse(input, NFRule.ATTRIBUTE_SET_SUBMISSION, errorCollector);
+                yield errorCollector.getSyntaxErrors().isEmpty() ? checkAttributes(attributes, baseRelation) : List.of();
+            }
+            case 4 -> {
+                NormalformDeterminationSubmission submission = NFParserFacade.parse(input, NFRule.NORMAL_FORM_SUBMISSION, errorCollector);
+                yield errorCollector.getSyntaxErrors().isEmpty() ? checkNormalformViolations(submission, baseRelation) : List.of();
+            }
+            default -> throw new IllegalArgumentException("Invalid task type.");
+        };
 
-        CharStream submissionLexerInput = CharStreams.fromString(submissionString);
-        Lexer submissionLexer = new NFLexer(submissionLexerInput);
-        TokenStream submissionParserInput = new CommonTokenStream(submissionLexer);
-        NFParser submissionParser = new NFParser(submissionParserInput);
+        return new ValidationResultDto(List.copyOf(errorCollector.getSyntaxErrors()), warnings);
+    }
+
+    private GradingDto evaluateNormalFormDetermination(CompiledTask task, SubmitSubmissionDto<FanfSubmissionDto> submission, NormalformDeterminationSubmission parsedSubmission) throws Exception {
+        String submissionString = submission.submission().input();
 
         NFParserErrorCollector errorCollector = new NFParserErrorCollector();
-        // Source for adding to lexer: https://groups.google.com/g/antlr-discussion/c/FfiwtHCrgc0/m/_5wwPD3tK04J (Gerald Wimmer, 2024-01-21).
-        submissionLexer.addErrorListener(errorCollector);
-        submissionParser.addErrorListener(errorCollector);
 
-        NormalformDeterminationSpecification specification;
-        try {
-            specification = new ObjectMapper().readValue(task.getSpecification(), NormalformDeterminationSpecification.class);
-        } catch (Exception e) {
-            throw new Exception("Could not deserialize NormalformDeterminationSpecification because: " + e.getMessage());
-        }
+        NormalformDeterminationSpecification specification = task.getSpecification(NormalformDeterminationSpecification.class);
 
         // Get submission from input String. (Gerald Wimmer, 2023-12-02)
-        NormalformDeterminationSubmission normalformDeterminationSubmission = submissionParser.normalFormSubmission().submission;
+        NormalformDeterminationSubmission normalformDeterminationSubmission = parsedSubmission != null ? parsedSubmission : NFParserFacade.parse(submissionString, NFRule.NORMAL_FORM_SUBMISSION, errorCollector);
         NormalformDeterminationAnalysis analysis = new NormalformDeterminationAnalysis();
         if (!errorCollector.getSyntaxErrors().isEmpty()) {
             analysis.setSyntaxError(errorCollector.getSyntaxErrors().toArray(new String[0]));
         } else {
-            boolean hasIncorrectAttributes = false;
-
-            Set<FunctionalDependency> incorrectFDs = normalformDeterminationSubmission.getNormalformViolations().keySet();
-            incorrectFDs.removeAll(specification.getBaseRelation().getFunctionalDependencies());
-
-            if (!incorrectFDs.isEmpty()) {
-                StringJoiner depsJoiner = new StringJoiner(", ");
-                incorrectFDs.forEach(f -> depsJoiner.add(f.toString()));
-
-                analysis.appendSyntaxError("Syntax error: Submission contains functional dependencies \"" + depsJoiner + "\" not found in the base relation");
-
-                hasIncorrectAttributes = true;
+            List<String> structuralErrors = checkNormalformViolations(normalformDeterminationSubmission, specification.getBaseRelation());
+            for (String error : structuralErrors) {
+                analysis.appendSyntaxError(error);
             }
+            boolean hasIncorrectAttributes = !structuralErrors.isEmpty();
 
-
-            if (!hasIncorrectAttributes) {
+            // RUN only reports the syntax, so the submission is not analyzed.
+            if (!hasIncorrectAttributes && !submission.mode().equals(SubmissionMode.RUN)) {
                 NormalformAnalyzerConfig normalformAnalyzerConfig = new NormalformAnalyzerConfig();
 
-                normalformAnalyzerConfig.setCorrectMinimalKeys(KeysDeterminator.determineMinimalKeys(specification.getBaseRelation()));
+                Set<Key> correctMinimalKeys = task.getSolution().getMinimalKeys();
+                normalformAnalyzerConfig.setCorrectMinimalKeys(correctMinimalKeys != null ? correctMinimalKeys : KeysDeterminator.determineMinimalKeys(specification.getBaseRelation()));
                 normalformAnalyzerConfig.setRelation(specification.getBaseRelation());
 
                 analysis = NormalformDeterminationAnalyzer.analyze(normalformDeterminationSubmission, normalformAnalyzerConfig);
@@ -156,12 +215,7 @@ private GradingDto evaluateNormalFormDetermination(FanfTask task, SubmitSubmissi
         //SyntaxCheck on RUN
 
         if (submission.mode().equals(SubmissionMode.RUN)) {
-            if (analysis.getSyntaxError() == null || analysis.getSyntaxError().isEmpty()) {
-                criteria.add(new CriterionDto("Syntax", null, true, "Syntax correct"));
-            } else {
-                criteria.add(new CriterionDto("Syntax", null, false, analysis.getSyntaxError()));
-            }
-            return new GradingDto(task.getMaxPoints(), BigDecimal.ZERO, null, criteria);
+            return evaluateSyntax(task, analysis);
         }
 
         //grade
@@ -245,47 +299,34 @@ private GradingDto evaluateNormalFormDetermination(FanfTask task, SubmitSubmissi
         return new GradingDto(task.getMaxPoints(), actualPoints, generalFeedback, criteria);
     }
 
-    private GradingDto evaluateAttributeClosure(FanfTask task, SubmitSubmissionDto<FanfSubmissionDto> submission) throws Exception {
+    private GradingDto evaluateAttributeClosure(CompiledTask task, SubmitSubmissionDto<FanfSubmissionDto> submission, Set<String> parsedAttributes) throws Exception {
         String submissionString = submission.submission().input();
 
-        CharStream submissionLexerInput = CharStreams.fromString(submissionString);
-        Lexer submissionLexer = new NFLexer(submissionLexerInput);
-        TokenStream submissionParserInput = new CommonTokenStream(submissionLexer);
-        NFParser submissionParser = new NFParser(submissionParserInput);
-
         NFParserErrorCollector errorCollector = new NFParserErrorCollector();
-        // Source for adding to lexer: https://groups.google.com/g/antlr-discussion/c/FfiwtHCrgc0/m/_5wwPD3tK04J (Gerald Wimmer, 2024-01-21).
-        submissionLexer.addErrorListener(errorCollector);
-        submissionParser.addErrorListener(errorCollector);
-        AttributeClosureSpecification specification;
-        try {
-            specification = new ObjectMapper().readValue(task.getSpecification(), AttributeClosureSpecification.class);
-        } catch (Exception e) {
-            throw new Exception("Could not deserialize AttributeClosureSpecification because: " + e.getMessage());
-        }
+        AttributeClosureSpecification specification = task.getSpecification(AttributeClosureSpecification.class);
 
         // Assemble relation from input String. (Gerald Wimmer, 2023-11-27)
         Relation submissionRelation = new Relation();
-        Set<String> attributes = submissionParser.attributeSetSubmission().attributes;
+        Set<String> attributes = parsedAttributes != null ? parsedAttributes : NFParserFacade.parse(submissionString, NFRule.ATTRIBUTE_SET_SUBMISSION, errorCollector);
         AttributeClosureAnalysis analysis = new AttributeClosureAnalysis();
         if (!errorCollector.getSyntaxErrors().isEmpty()) {
             analysis.setSyntaxError(errorCollector.getSyntaxErrors().toArray(new String[0]));
         } else {
-            boolean hasIncorrectAttributes = false;
-
-            Set<String> incorrectAttributes = new HashSet<>(attributes);
-            incorrectAttributes.removeAll(specification.getBaseRelation().getAttributes());
-
-            if (!incorrectAttributes.isEmpty()) {
-                analysis.appendSyntaxError(getAttributesNotInBaseRelationErrorMessage(incorrectAttributes, "Attribute closure"));
-
-                hasIncorrectAttributes = true;
+            List<String> structuralErrors = checkAttributes(attributes, specification.getBaseRelation());
+            for (String error : structuralErrors) {
+                analysis.appendSyntaxError(error);
             }
+            boolean hasIncorrectAttributes = !structuralErrors.isEmpty();
 
-            if (!hasIncorrectAttributes) {
+            if (!hasIncorrectAttributes && !submission.mode().equals(SubmissionMode.RUN)) {
                 submissionRelation.setAttributes(attributes);
 
-                analysis = (AttributeClosureAnalysis) AttributeClosureAnalyzer.analyze(specification.getBaseRelation().getFunctionalDependencies(), specification.getBaseAttributes(), submissionRelation.getAttributes());
+                Set<String> correctAttributes = task.getSolution().getAttributeClosure();
+                if (correctAttributes != null) {
+                    analysis = (AttributeClosureAnalysis) AttributeClosureAnalyzer.analyze(correctAttributes, submissionRelation.getAttributes());
+                } else {
+                    analysis = (AttributeClosureAnalysis) AttributeClosureAnalyzer.analyze(specification.getBaseRelation().getFunctionalDependencies(), specification.getBaseAttributes(), submissionRelation.getAttributes());
+                }
             }
         }
 
@@ -297,13 +338,7 @@ private GradingDto evaluateAttributeClosure(FanfTask task, SubmitSubmissionDto<F
         List<CriterionDto> criteria = new ArrayList<>();
 
         if (submission.mode().equals(SubmissionMode.RUN)) {
-            if (analysis.getSyntaxError() == null || analysis.getSyntaxError().isEmpty()) {
-                criteria.add(new CriterionDto("Syntax", null, true, "Syntax correct"));
-            } else {
-                criteria.add(new CriterionDto("Syntax", null, false, analysis.getSyntaxError()));
-
-            }
-            return new GradingDto(task.getMaxPoints(), BigDecimal.ZERO, null, criteria);
+            return evaluateSyntax(task, analysis);
         }
 
 
@@ -395,51 +430,34 @@ private GradingDto evaluateAttributeClosure(FanfTask task, SubmitSubmissionDto<F
         return new GradingDto(task.getMaxPoints(), actualPoints, generalFeedback, criteria);
     }
 
-    private GradingDto evaluateMinimalCover(FanfTask task, SubmitSubmissionDto<FanfSubmissionDto> submission) throws Exception {
+    private GradingDto evaluateMinimalCover(CompiledTask task, SubmitSubmissionDto<FanfSubmissionDto> submission, Set<FunctionalDependency> parsedDependencies) throws Exception {
         String submissionString = submission.submission().input();
 
-        CharStream submissionLexerInput = CharStreams.fromString(submissionString);
-        Lexer submissionLexer = new NFLexer(submissionLexerInput);
-        TokenStream submissionParserInput = new CommonTokenStream(submissionLexer);
-        NFParser submissionParser = new NFParser(submissionParserInput);
-
         NFParserErrorCollector errorCollector = new NFParserErrorCollector();
-        // Source for adding to lexer: https://groups.google.com/g/antlr-discussion/c/FfiwtHCrgc0/m/_5wwPD3tK04J (Gerald Wimmer, 2024-01-21).
-        submissionLexer.addErrorListener(errorCollector);
-        submissionParser.addErrorListener(errorCollector);
-        MinimalCoverSpecification specification;
-        try {
-            specification = new ObjectMapper().readValue(task.getSpecification(), MinimalCoverSpecification.class);
-        } catch (Exception e) {
-            throw new Exception("Could not deserialize MinimalCoverSpecification because: " + e.getMessage());
-        }
+        MinimalCoverSpecification specification = task.getSpecification(MinimalCoverSpecification.class);
 
         // Assemble relation from input String. (Gerald Wimmer, 2023-11-27)
         Relation submissionRelation = new Relation();
-        Set<FunctionalDependency> functionalDependencies = submissionParser.functionalDependencySetSubmission().functionalDependencies;
+        Set<FunctionalDependency> functionalDependencies = parsedDependencies != null ? parsedDependencies : NFParserFacade.parse(submissionString, NFRule.FUNCTIONAL_DEPENDENCY_SET_SUBMISSION, errorCollector);
         MinimalCoverAnalysis analysis = new MinimalCoverAnalysis();
         if (!errorCollector.getSyntaxErrors().isEmpty()) {
             analysis.setSyntaxError(errorCollector.getSyntaxErrors().toArray(new String[0]));
         } else {
-            boolean hasIncorrectAttributes = false;
-
-            for (FunctionalDependency f : functionalDependencies) {
-                Set<String> incorrectAttributes = new HashSet<>(f.getLhsAttributes());
-                incorrectAttributes.addAll(f.getRhsAttributes());
-
-                incorrectAttributes.removeAll(specification.getBaseRelation().getAttributes());
-
-                if (!incorrectAttributes.isEmpty()) {
-                    analysis.appendSyntaxError(getAttributesNotInBaseRelationErrorMessage(incorrectAttributes, "Functional Dependency \"" + f + "\""));
-
-                    hasIncorrectAttributes = true;
-                }
+            List<String> structuralErrors = checkDependencies(functionalDependencies, specification.getBaseRelation());
+            for (String error : structuralErrors) {
+                analysis.appendSyntaxError(error);
             }
+            boolean hasIncorrectAttributes = !structuralErrors.isEmpty();
 
-            if (!hasIncorrectAttributes) {
+            if (!hasIncorrectAttributes && !submission.mode().equals(SubmissionMode.RUN)) {
                 submissionRelation.setFunctionalDependencies(functionalDependencies);
 
-                analysis = MinimalCoverAnalyzer.analyze(submissionRelation, specification.getBaseRelation());
+                Set<FunctionalDependency> correctDependencies = task.getSolution().getMinimalCover();
+                if (correctDependencies != null) {
+                    analysis = MinimalCoverAnalyzer.analyze(submissionRelation, correctDependencies);
+                } else {
+                    analysis = MinimalCoverAnalyzer.analyze(submissionRelation, specification.getBaseRelation());
+                }
             }
         }
 
@@ -451,14 +469,7 @@ private GradingDto evaluateMinimalCover(FanfTask task, SubmitSubmissionDto<FanfS
         //check mode
 
         if (submission.mode().equals(SubmissionMode.RUN)) {
-
-            if (analysis.getSyntaxError() == null || analysis.getSyntaxError().isEmpty()) {
-                criteria.add(new CriterionDto("Syntax", null, true, "Syntax correct"));
-            } else {
-                criteria.add(new CriterionDto("Syntax", null, false, analysis.getSyntaxError()));
-
-            }
-            return new GradingDto(task.getMaxPoints(), BigDecimal.ZERO, null, criteria);
+            return evaluateSyntax(task, analysis);
         }
 
 
@@ -646,25 +657,12 @@ private GradingDto evaluateMinimalCover(FanfTask task, SubmitSubmissionDto<FanfS
         return new GradingDto(task.getMaxPoints(), actualPoints, generalFeedback, criteria);
     }
 
-    private GradingDto evaluateNormalization(FanfTask task, SubmitSubmissionDto<FanfSubmissionDto> submission) throws Exception {
+    private GradingDto evaluateNormalization(CompiledTask task, SubmitSubmissionDto<FanfSubmissionDto> submission, Set<IdentifiedRelation> parsedRelations) throws Exception {
         String submissionString = submission.submission().input();
 
-        CharStream submissionLexerInput = CharStreams.fromString(submissionString);
-        Lexer submissionLexer = new NFLexer(submissionLexerInput);
-        TokenStream submissionParserInput = new CommonTokenStream(submissionLexer);
-        NFParser submissionParser = new NFParser(submissionParserInput);
-
         NFParserErrorCollector errorCollector = new NFParserErrorCollector();
-        // Source for adding to lexer: https://groups.google.com/g/antlr-discussion/c/FfiwtHCrgc0/m/_5wwPD3tK04J (Gerald Wimmer, 2024-01-21).
-        submissionLexer.addErrorListener(errorCollector);
-        submissionParser.addErrorListener(errorCollector);
 
-        NormalizationSpecification specification;
-        try {
-            specification = new ObjectMapper().readValue(task.getSpecification(), NormalizationSpecification.class);
-        } catch (Exception e) {
-            throw new Exception("Could not deserialize NormalizationSpecification because: " + e.getMessage());
-        }
+        NormalizationSpecification specification = task.getSpecification(NormalizationSpecification.class);
 
         NormalizationAnalyzerConfig normalizationAnalyzerConfig = new NormalizationAnalyzerConfig();
 
@@ -673,42 +671,18 @@ private GradingDto evaluateNormalization(FanfTask task, SubmitSubmissionDto<Fanf
         normalizationAnalyzerConfig.setMaxLostDependencies(specification.getMaxLostDependencies());
 
         // Get normalized relations from input String. (Gerald Wimmer, 2023-12-02)
-        Set<IdentifiedRelation> submissionSet = submissionParser.relationSetSubmission().relations;
+        Set<IdentifiedRelation> submissionSet = parsedRelations != null ? parsedRelations : NFParserFacade.parse(submissionString, NFRule.RELATION_SET_SUBMISSION, errorCollector);
         NormalizationAnalysis analysis = new NormalizationAnalysis();
         if (!errorCollector.getSyntaxErrors().isEmpty()) {
             analysis.setSyntaxError(errorCollector.getSyntaxErrors().toArray(new String[0]));
         } else {
-            boolean hasIncorrectSyntax = false;
-
-            // Check if there are relations with identical IDs (Gerald Wimmer, 2024-01-12)
-            Set<String> relationIDs = new HashSet<>();
-            Set<String> registeredDuplicates = new HashSet<>();
-            for (IdentifiedRelation r : submissionSet) {
-                if (relationIDs.contains(r.getID()) && !registeredDuplicates.contains(r.getID())) {
-                    analysis.appendSyntaxError("Syntax error: Duplicate relation ID \"" + r.getID() + "\"");
-                    registeredDuplicates.add(r.getID());
-                    hasIncorrectSyntax = true;
-                }
-                relationIDs.add(r.getID());
+            List<String> structuralErrors = checkRelations(submissionSet, specification.getBaseRelation());
+            for (String error : structuralErrors) {
+                analysis.appendSyntaxError(error);
             }
+            boolean hasIncorrectSyntax = !structuralErrors.isEmpty();
 
-            // Check if the relations contain any attributes not found in the base relation (Gerald Wimmer, 2024-01-12)
-            for (IdentifiedRelation r : submissionSet) {
-                Set<String> incorrectAttributes = new HashSet<>(r.getAttributes());
-                incorrectAttributes.addAll(r.getFunctionalDependencies().stream().flatMap(f -> f.getLhsAttributes().stream()).collect(Collectors.toSet()));
-                incorrectAttributes.addAll(r.getFunctionalDependencies().stream().flatMap(f -> f.getRhsAttributes().stream()).collect(Collectors.toSet()));
-                incorrectAttributes.addAll(r.getMinimalKeys().stream().flatMap(k -> k.getAttributes().stream()).collect(Collectors.toSet()));
-
-                incorrectAttributes.removeAll(specification.getBaseRelation().getAttributes());
-
-                if (!incorrectAttributes.isEmpty()) {
-                    analysis.appendSyntaxError(getAttributesNotInBaseRelationErrorMessage(incorrectAttributes, "Relation \"" + r.getID() + "\""));
-
-                    hasIncorrectSyntax = true;
-                }
-            }
-
-            if (!hasIncorrectSyntax) {
+            if (!hasIncorrectSyntax && !submission.mode().equals(SubmissionMode.RUN)) {
                 normalizationAnalyzerConfig.setNormalizedRelations(submissionSet);
 
                 analysis = NormalizationAnalyzer.analyze(normalizationAnalyzerConfig);
@@ -718,13 +692,7 @@ private GradingDto evaluateNormalization(FanfTask task, SubmitSubmissionDto<Fanf
         List<CriterionDto> criteria = new ArrayList<>();
 
         if (submission.mode().equals(SubmissionMode.RUN)) {
-
-            if (analysis.getSyntaxError() == null || analysis.getSyntaxError().isEmpty()) {
-                criteria.add(new CriterionDto("Syntax", null, true, "Syntax correct"));
-            } else {
-                criteria.add(new CriterionDto("Syntax", null, false, analysis.getSyntaxError()));
-            }
-            return new GradingDto(task.getMaxPoints(), BigDecimal.ZERO, null, criteria);
+            return evaluateSyntax(task, analysis);
         }
 
         //SYNTAX
@@ -836,53 +804,33 @@ private GradingDto evaluateNormalization(FanfTask task, SubmitSubmissionDto<Fanf
         return new GradingDto(task.getMaxPoints(), actualPoints, generalFeedback, criteria);
     }
 
-    private GradingDto evaluateKeyDetermination(FanfTask task, SubmitSubmissionDto<FanfSubmissionDto> submission) throws Exception {
+    private GradingDto evaluateKeyDetermination(CompiledTask task, SubmitSubmissionDto<FanfSubmissionDto> submission, Set<Key> parsedKeys) throws Exception {
         String submissionString = submission.submission().input();
 
-        CharStream submissionLexerInput = CharStreams.fromString(submissionString);
-        Lexer submissionLexer = new NFLexer(submissionLexerInput);
-        TokenStream submissionParserInput = new CommonTokenStream(submissionLexer);
-        NFParser submissionParser = new NFParser(submissionParserInput);
-
         NFParserErrorCollector errorCollector = new NFParserErrorCollector();
-        // Source for adding to lexer: https://groups.google.com/g/antlr-discussion/c/FfiwtHCrgc0/m/_5wwPD3tK04J (Gerald Wimmer, 2024-01-21).
-        submissionLexer.addErrorListener(errorCollector);
-        submissionParser.addErrorListener(errorCollector);
-
-        KeysDeterminationSpecification specification;
-        try {    // Source: https://mkyong.com/java/how-to-convert-java-object-to-from-json-jackson/
-            specification = new ObjectMapper().readValue(task.getSpecification(), KeysDeterminationSpecification.class);
-        } catch (Exception e) {
-            throw new Exception("Could not deserialize KeysDeterminationSpecification because: " + e.getMessage());
-        }
 
-        KeysAnalyzerConfig keysAnalyzerConfig = new KeysAnalyzerConfig();
-        KeysContainer correctKeys = KeysDeterminator.determineAllKeys(specification.getBaseRelation());
-        keysAnalyzerConfig.setCorrectMinimalKeys(correctKeys.getMinimalKeys());
+        KeysDeterminationSpecification specification = task.getSpecification(KeysDeterminationSpecification.class);
 
         // Assemble relation from input string (Gerald Wimmer, 2023-11-27)
         Relation submissionRelation = new Relation();
-        Set<Key> minimalKeys = submissionParser.keySetSubmission().keys;
+        Set<Key> minimalKeys = parsedKeys != null ? parsedKeys : NFParserFacade.parse(submissionString, NFRule.KEY_SET_SUBMISSION, errorCollector);
         KeysAnalysis analysis = new KeysAnalysis();
         if (!errorCollector.getSyntaxErrors().isEmpty()) {
             analysis.setSyntaxError(errorCollector.getSyntaxErrors().toArray(new String[0]));
         } else {
-            boolean hasIncorrectAttributes = false;
-
-            for (Key k : minimalKeys) {
-                Set<String> incorrectAttributes = new HashSet<>(k.getAttributes());
-                incorrectAttributes.removeAll(specification.getBaseRelation().getAttributes());
-
-                if (!incorrectAttributes.isEmpty()) {
-                    analysis.appendSyntaxError(getAttributesNotInBaseRelationErrorMessage(incorrectAttributes, "Key \"" + k + "\""));
-
-                    hasIncorrectAttributes = true;
-                }
+            List<String> structuralErrors = checkKeys(minimalKeys, specification.getBaseRelation());
+            for (String error : structuralErrors) {
+                analysis.appendSyntaxError(error);
             }
+            boolean hasIncorrectAttributes = !structuralErrors.isEmpty();
 
-            if (!hasIncorrectAttributes) {
+            if (!hasIncorrectAttributes && !submission.mode().equals(SubmissionMode.RUN)) {
                 submissionRelation.setMinimalKeys(minimalKeys);
 
+                KeysAnalyzerConfig keysAnalyzerConfig = new KeysAnalyzerConfig();
+                Set<Key> correctMinimalKeys = task.getSolution().getMinimalKeys();
+                keysAnalyzerConfig.setCorrectMinimalKeys(correctMinimalKeys != null ? correctMinimalKeys : KeysDeterminator.determineMinimalKeys(specification.getBaseRelation()));
+
                 analysis = KeysAnalyzer.analyze(submissionRelation, keysAnalyzerConfig);
             }
         }
@@ -893,14 +841,7 @@ private GradingDto evaluateKeyDetermination(FanfTask task, SubmitSubmissionDto<F
         List<CriterionDto> criteria = new ArrayList<>();
 
         if (submission.mode().equals(SubmissionMode.RUN)) {
-
-            if (analysis.getSyntaxError() == null || analysis.getSyntaxError().isEmpty()) {
-                criteria.add(new CriterionDto("Syntax", null, true, "Syntax correct"));
-            } else {
-                criteria.add(new CriterionDto("Syntax", null, false, analysis.getSyntaxError()));
-
-            }
-            return new GradingDto(task.getMaxPoints(), BigDecimal.ZERO, null, criteria);
+            return evaluateSyntax(task, analysis);
         }
 
 
@@ -959,6 +900,161 @@ private GradingDto evaluateKeyDetermination(FanfTask task, SubmitSubmissionDto<F
         return new GradingDto(task.getMaxPoints(), actualPoints, generalFeedback, criteria);
     }
 
+    /**
+     * Loads and compiles the task with the supplied identifier.
+     *
+     * @param id The task identifier.
+     * @return The compiled task.
+     */
+    private CompiledTask compileTask(long id) {
+        return this.transactionTemplate.execute(status -> {
+            FanfTask task = this.taskRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Task " + id + " does not exist."));
+            return CompiledTask.compile(task, this.specificationReader, this.solutionReader, this.solutionWriter);
+        });
+    }
+
+    /**
+     * Reports only whether the submission is syntactically correct, as requested in {@link SubmissionMode#RUN}.
+     *
+     * @param task     The task.
+     * @param analysis The analysis holding the syntax errors of the submission, if any.
+     * @return The evaluation result.
+     */
+    private static GradingDto evaluateSyntax(CompiledTask task, NFAnalysis analysis) {
+        List<CriterionDto> criteria = new ArrayList<>();
+        if (analysis.getSyntaxError() == null || analysis.getSyntaxError().isEmpty()) {
+            criteria.add(new CriterionDto("Syntax", null, true, "Syntax correct"));
+        } else {
+            criteria.add(new CriterionDto("Syntax", null, false, analysis.getSyntaxError()));
+        }
+        return new GradingDto(task.getMaxPoints(), BigDecimal.ZERO, null, criteria);
+    }
+
+    /**
+     * Checks that the submitted normal form violations only refer to functional dependencies of the base relation.
+     *
+     * @param submission   The submission.
+     * @param baseRelation The base relation.
+     * @return The error messages, empty if the check passes.
+     */
+    private static List<String> checkNormalformViolations(NormalformDeterminationSubmission submission, Relation baseRelation) {
+        List<String> errors = new ArrayList<>();
+
+        Set<FunctionalDependency> incorrectFDs = submission.getNormalformViolations().keySet();
+        incorrectFDs.removeAll(baseRelation.getFunctionalDependencies());
+
+        if (!incorrectFDs.isEmpty()) {
+            StringJoiner depsJoiner = new StringJoiner(", ");
+            incorrectFDs.forEach(f -> depsJoiner.add(f.toString()));
+
+            errors.add("Syntax error: Submission contains functional dependencies \"" + depsJoiner + "\" not found in the base relation");
+        }
+        return errors;
+    }
+
+    /**
+     * Checks that the submitted attributes belong to the base relation.
+     *
+     * @param attributes   The submitted attributes.
+     * @param baseRelation The base relation.
+     * @return The error messages, empty if the check passes.
+     */
+    private static List<String> checkAttributes(Set<String> attributes, Relation baseRelation) {
+        List<String> errors = new ArrayList<>();
+
+        Set<String> incorrectAttributes = new HashSet<>(attributes);
+        incorrectAttributes.removeAll(baseRelation.getAttributes());
+
+        if (!incorrectAttributes.isEmpty()) {
+            errors.add(getAttributesNotInBaseRelationErrorMessage(incorrectAttributes, "Attribute closure"));
+        }
+        return errors;
+    }
+
+    /**
+     * Checks that the submitted functional dependencies only contain attributes of the base relation.
+     *
+     * @param dependencies The submitted functional dependencies.
+     * @param baseRelation The base relation.
+     * @return The error messages, empty if the check passes.
+     */
+    private static List<String> checkDependencies(Set<FunctionalDependency> dependencies, Relation baseRelation) {
+        List<String> errors = new ArrayList<>();
+        Set<String> baseAttributes = baseRelation.getAttributes();
+
+        for (FunctionalDependency f : dependencies) {
+            Set<String> incorrectAttributes = new HashSet<>(f.getLhsAttributes());
+            incorrectAttributes.addAll(f.getRhsAttributes());
+
+            incorrectAttributes.removeAll(baseAttributes);
+
+            if (!incorrectAttributes.isEmpty()) {
+                errors.add(getAttributesNotInBaseRelationErrorMessage(incorrectAttributes, "Functional Dependency \"" + f + "\""));
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Checks that the submitted relations have distinct IDs and only contain attributes of the base relation.
+     *
+     * @param relations    The submitted relations.
+     * @param baseRelation The base relation.
+     * @return The error messages, empty if the checks pass.
+     */
+    private static List<String> checkRelations(Set<IdentifiedRelation> relations, Relation baseRelation) {
+        List<String> errors = new ArrayList<>();
+        Set<String> baseAttributes = baseRelation.getAttributes();
+
+        // Check if there are relations with identical IDs (Gerald Wimmer, 2024-01-12)
+        Set<String> relationIDs = new HashSet<>();
+        Set<String> registeredDuplicates = new HashSet<>();
+        for (IdentifiedRelation r : relations) {
+            if (relationIDs.contains(r.getID()) && !registeredDuplicates.contains(r.getID())) {
+                errors.add("Syntax error: Duplicate relation ID \"" + r.getID() + "\"");
+                registeredDuplicates.add(r.getID());
+            }
+            relationIDs.add(r.getID());
+        }
+
+        // Check if the relations contain any attributes not found in the base relation (Gerald Wimmer, 2024-01-12)
+        for (IdentifiedRelation r : relations) {
+            Set<String> incorrectAttributes = new HashSet<>(r.getAttributes());
+            incorrectAttributes.addAll(r.getFunctionalDependencies().stream().flatMap(f -> f.getLhsAttributes().stream()).collect(Collectors.toSet()));
+            incorrectAttributes.addAll(r.getFunctionalDependencies().stream().flatMap(f -> f.getRhsAttributes().stream()).collect(Collectors.toSet()));
+            incorrectAttributes.addAll(r.getMinimalKeys().stream().flatMap(k -> k.getAttributes().stream()).collect(Collectors.toSet()));
+
+            incorrectAttributes.removeAll(baseAttributes);
+
+            if (!incorrectAttributes.isEmpty()) {
+                errors.add(getAttributesNotInBaseRelationErrorMessage(incorrectAttributes, "Relation \"" + r.getID() + "\""));
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Checks that the submitted keys only contain attributes of the base relation.
+     *
+     * @param keys         The submitted keys.
+     * @param baseRelation The base relation.
+     * @return The error messages, empty if the check passes.
+     */
+    private static List<String> checkKeys(Set<Key> keys, Relation baseRelation) {
+        List<String> errors = new ArrayList<>();
+        Set<String> baseAttributes = baseRelation.getAttributes();
+
+        for (Key k : keys) {
+            Set<String> incorrectAttributes = new HashSet<>(k.getAttributes());
+            incorrectAttributes.removeAll(baseAttributes);
+
+            if (!incorrectAttributes.isEmpty()) {
+                errors.add(getAttributesNotInBaseRelationErrorMessage(incorrectAttributes, "Key \"" + k + "\""));
+            }
+        }
+        return errors;
+    }
+
     private static String getAttributesNotInBaseRelationErrorMessage(Collection<String> incorrectAttributes, String culprit) {
         StringJoiner attributesJoiner = new StringJoiner(", ");
         incorrectAttributes.forEach(attributesJoiner::add);
@@ -1017,6 +1113,26 @@ private static String generateTable(Collection<?> collection) {
         return ret.toString();
     }
 
+    /**
+     * Evaluates a submission of a specific task type.
+     *
+     * @param <T> The type of the parsed submission.
+     */
+    @FunctionalInterface
+    private interface SubmissionEvaluator<T> {
+        /**
+         * Evaluates the supplied submission.
+         *
+         * @param task       The compiled task.
+         * @param submission The submission.
+         * @param parsed     The parsed submission, or <code>null</code> if it has to be parsed, collecting its syntax
+         *                   errors.
+         * @return The evaluation result.
+         * @throws Exception If the evaluation failed.
+         */
+        GradingDto evaluate(CompiledTask task, SubmitSubmissionDto<FanfSubmissionDto> submission, T parsed) throws Exception;
+    }
+
     protected static final String HTML_HEADER = "<head><link rel='stylesheet' href='/etutor/css/etutor.css'></link></head>";
 
     protected static final String TABLE_HEADER = "<table border='2' rules='all'>";
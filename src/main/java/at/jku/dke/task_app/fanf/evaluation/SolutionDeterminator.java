@@ -0,0 +1,61 @@
+package at.jku.dke.task_app.fanf.evaluation;
+
+import at.jku.dke.task_app.fanf.evaluation.algorithms.Closure;
+import at.jku.dke.task_app.fanf.evaluation.algorithms.MinimalCover;
+import at.jku.dke.task_app.fanf.evaluation.analysis.normalization.KeysDeterminator;
+import at.jku.dke.task_app.fanf.evaluation.model.*;
+
+/**
+ * Determines the {@link NFSolution} of a task, i.e., the reference results that do not depend on the submission.
+ */
+public class SolutionDeterminator {
+
+    private SolutionDeterminator() {
+        // This class is not meant to be instantiated.
+    }
+
+    /**
+     * Determines the solution of a task.
+     * <br><br>
+     * The reference results of normalization tasks depend on the submitted decomposition, so their solution is empty.
+     *
+     * @param specification The specification of the task.
+     * @return The solution of the task.
+     * @throws IllegalArgumentException If the type of the specification is not supported.
+     */
+    public static NFSolution determine(NFSpecification specification) {
+        NFSolution solution = new NFSolution();
+
+        if (specification instanceof KeysDeterminationSpecification keysSpecification) {
+            solution.setMinimalKeys(KeysDeterminator.determineMinimalKeys(keysSpecification.getBaseRelation()));
+        } else if (specification instanceof MinimalCoverSpecification minimalCoverSpecification) {
+            solution.setMinimalCover(MinimalCover.execute(minimalCoverSpecification.getBaseRelation().getFunctionalDependencies()));
+        } else if (specification instanceof AttributeClosureSpecification closureSpecification) {
+            solution.setAttributeClosure(Closure.execute(closureSpecification.getBaseAttributes(), closureSpecification.getBaseRelation().getFunctionalDependencies()));
+        } else if (specification instanceof NormalformDeterminationSpecification normalformSpecification) {
+            solution.setMinimalKeys(KeysDeterminator.determineMinimalKeys(normalformSpecification.getBaseRelation()));
+        } else if (!(specification instanceof NormalizationSpecification)) {
+            throw new IllegalArgumentException("Invalid task type.");
+        }
+
+        return solution;
+    }
+
+    /**
+     * Returns the class of the specifications of the supplied task type.
+     *
+     * @param rdbdType The type of the task.
+     * @return The specification class.
+     * @throws IllegalArgumentException If the task type is invalid.
+     */
+    public static Class<? extends NFSpecification> getSpecificationClass(int rdbdType) {
+        return switch (rdbdType) {
+            case 0 -> KeysDeterminationSpecification.class;
+            case 1 -> NormalizationSpecification.class;
+            case 2 -> MinimalCoverSpecification.class;
+            case 3 -> AttributeClosureSpecification.class;
+            case 4 -> NormalformDeterminationSpecification.class;
+            default -> throw new IllegalArgumentException("Invalid task type.");
+        };
+    }
+}
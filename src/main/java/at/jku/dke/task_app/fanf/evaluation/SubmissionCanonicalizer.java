@@ -0,0 +1,98 @@
+package at.jku.dke.task_app.fanf.evaluation;
+
+import at.jku.dke.task_app.fanf.evaluation.model.FunctionalDependency;
+import at.jku.dke.task_app.fanf.evaluation.model.IdentifiedRelation;
+import at.jku.dke.task_app.fanf.evaluation.model.Key;
+import at.jku.dke.task_app.fanf.evaluation.model.NormalformDeterminationSubmission;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Creates canonical forms of submissions, which are equal exactly if the parsed submissions are, regardless of white
+ * space and the order of relations, functional dependencies, keys and attributes.
+ * <br><br>
+ * The canonical form is created from the parsed submission, so that a submission is only parsed once for both looking
+ * up its result and evaluating it. Submissions with syntax errors have no canonical form, as their errors are reported
+ * with their positions in the input.
+ */
+public final class SubmissionCanonicalizer {
+
+    private SubmissionCanonicalizer() {
+    }
+
+    /**
+     * Creates the canonical form of the supplied keys.
+     *
+     * @param keys The parsed submission of a key determination task.
+     * @return The canonical form.
+     */
+    public static String canonicalizeKeys(Set<Key> keys) {
+        return join(keys, SubmissionCanonicalizer::canonicalize, ";");
+    }
+
+    /**
+     * Creates the canonical form of the supplied relations.
+     *
+     * @param relations The parsed submission of a normalization task.
+     * @return The canonical form.
+     */
+    public static String canonicalizeRelations(Set<IdentifiedRelation> relations) {
+        return join(relations, SubmissionCanonicalizer::canonicalize, ";");
+    }
+
+    /**
+     * Creates the canonical form of the supplied functional dependencies.
+     *
+     * @param dependencies The parsed submission of a minimal cover task.
+     * @return The canonical form.
+     */
+    public static String canonicalizeDependencies(Set<FunctionalDependency> dependencies) {
+        return join(dependencies, SubmissionCanonicalizer::canonicalize, ";");
+    }
+
+    /**
+     * Creates the canonical form of the supplied attributes.
+     *
+     * @param attributes The parsed submission of an attribute closure task.
+     * @return The canonical form.
+     */
+    public static String canonicalizeAttributes(Set<String> attributes) {
+        return join(attributes, Function.identity(), ",");
+    }
+
+    /**
+     * Creates the canonical form of the supplied normal form determination.
+     *
+     * @param submission The parsed submission of a normal form determination task.
+     * @return The canonical form.
+     */
+    public static String canonicalize(NormalformDeterminationSubmission submission) {
+        return submission.getOverallLevel() + "." + join(submission.getNormalformViolations().entrySet(), e -> canonicalize(e.getKey()) + ":" + e.getValue(), ";");
+    }
+
+    private static String canonicalize(IdentifiedRelation relation) {
+        return relation.getID()
+            + ":(" + join(relation.getAttributes(), Function.identity(), ",") + ")"
+            + "->(" + join(relation.getFunctionalDependencies(), SubmissionCanonicalizer::canonicalize, ";") + ")"
+            + "#(" + join(relation.getMinimalKeys(), SubmissionCanonicalizer::canonicalize, ";") + ")";
+    }
+
+    private static String canonicalize(FunctionalDependency dependency) {
+        return join(dependency.getLhsAttributes(), Function.identity(), ",") + "->" + join(dependency.getRhsAttributes(), Function.identity(), ",");
+    }
+
+    private static String canonicalize(Key key) {
+        return join(key.getAttributes(), Function.identity(), ",");
+    }
+
+    /**
+     * Joins the canonical forms of the supplied elements in their natural order, keeping duplicates (e.g., relations
+     * that are equal but for their identity), as they are part of the submission.
+     */
+    private static <T> String join(Collection<T> elements, Function<T, String> canonicalizer, String delimiter) {
+        return elements.stream().map(canonicalizer).sorted().collect(Collectors.joining(delimiter));
+    }
+}
@@ -0,0 +1,132 @@
+package at.jku.dke.task_app.fanf.evaluation.algorithms;
+
+import at.jku.dke.task_app.fanf.evaluation.model.AttributeSet;
+import at.jku.dke.task_app.fanf.evaluation.model.AttributeUniverse;
+import at.jku.dke.task_app.fanf.evaluation.model.EncodedDependency;
+import at.jku.dke.task_app.fanf.evaluation.model.FunctionalDependency;
+
+import java.util.*;
+
+/**
+ * Determines a minimal cover of a set of functional dependencies that only depends on the dependencies it implies,
+ * i.e., equivalent sets of dependencies yield the same cover. Unlike {@link MinimalCover#execute(Collection)}, whose
+ * result depends on the dependencies it starts from and their iteration order, it is thus suitable for counting missing
+ * dependencies, no matter how the dependencies were derived.
+ * <br><br>
+ * The dependencies are first reduced to their Duquenne-Guigues basis, the unique set of implications
+ * <code>P -&gt; P+</code> for the pseudo-closed sets <code>P</code>, following Day's minimization (right-saturate
+ * every dependency, then left-saturate each one with respect to the others and drop it if it becomes trivial). The
+ * basis is then unfolded, its extraneous left-hand side attributes and redundant dependencies are removed in the order
+ * of {@link AttributeUniverse}, and the result is folded.
+ */
+public class CanonicalCover {
+
+	/**
+	 * Orders unfolded dependencies by the size of their left-hand side, then by the indices of their left-hand side
+	 * attributes and finally by their right-hand side attribute.
+	 */
+	private static final Comparator<EncodedDependency> ORDER = Comparator
+			.comparingInt((EncodedDependency dependency) -> dependency.lhs().cardinality())
+			.thenComparing(EncodedDependency::lhs, CanonicalCover::compareIndices)
+			.thenComparing(EncodedDependency::rhs, CanonicalCover::compareIndices);
+
+	private CanonicalCover() {
+		// This class is not meant to be instantiated.
+	}
+
+	/**
+	 * Determines the canonical minimal cover of the supplied functional dependencies.
+	 * @param dependencies The functional dependencies
+	 * @return A minimal cover of the functional dependencies, with dependencies of identical left-hand sides folded
+	 * into one
+	 */
+	public static Set<FunctionalDependency> execute(Collection<FunctionalDependency> dependencies) {
+		AttributeUniverse universe = AttributeUniverse.of(List.of(), dependencies);
+		List<EncodedDependency> basis = determineBasis(universe, universe.encodeAll(dependencies));
+
+		/*
+		 * Unfold the basis. Left-hand sides are then reduced against the basis, which implies the same dependencies as
+		 * the reduced ones.
+		 */
+		List<EncodedDependency> unfolded = new ArrayList<>();
+		for (EncodedDependency currDependency : basis) {
+			AttributeSet rhs = currDependency.rhs().minus(currDependency.lhs());
+			for (int i = rhs.nextSetBit(0); i >= 0; i = rhs.nextSetBit(i + 1)) {
+				unfolded.add(new EncodedDependency(currDependency.lhs(), universe.empty().with(i)));
+			}
+		}
+		unfolded.sort(ORDER);
+
+		LinearClosure basisClosure = new LinearClosure(universe.size(), basis);
+		SortedSet<EncodedDependency> reduced = new TreeSet<>(ORDER);
+		for (EncodedDependency currDependency : unfolded) {
+			AttributeSet lhs = currDependency.lhs();
+			for (int i = lhs.nextSetBit(0); i >= 0; i = lhs.nextSetBit(i + 1)) {
+				if (basisClosure.closure(lhs.without(i)).containsAll(currDependency.rhs())) {
+					lhs = lhs.without(i);
+				}
+			}
+			reduced.add(new EncodedDependency(lhs, currDependency.rhs()));
+		}
+
+		/*
+		 * Remove redundant dependencies, starting with the largest left-hand sides, so that those with smaller ones
+		 * are kept.
+		 */
+		List<EncodedDependency> cover = new ArrayList<>(reduced);
+		LinearClosure coverClosure = new LinearClosure(universe.size(), cover);
+		boolean[] excluded = new boolean[cover.size()];
+		for (int i = cover.size() - 1; i >= 0; i--) {
+			excluded[i] = true;
+			excluded[i] = coverClosure.closure(cover.get(i).lhs(), excluded).containsAll(cover.get(i).rhs());
+		}
+
+		Set<FunctionalDependency> result = new HashSet<>();
+		for (int i = 0; i < cover.size(); i++) {
+			if (!excluded[i]) {
+				result.add(universe.decode(cover.get(i)));
+			}
+		}
+
+		return MinimalCover.fold(result);
+	}
+
+	/**
+	 * Determines the Duquenne-Guigues basis of the supplied dependencies.
+	 * @param universe The <code>AttributeUniverse</code> the dependencies are encoded with
+	 * @param dependencies The encoded functional dependencies
+	 * @return The implications <code>P -&gt; P+</code> for the pseudo-closed sets <code>P</code>
+	 */
+	private static List<EncodedDependency> determineBasis(AttributeUniverse universe, List<EncodedDependency> dependencies) {
+		LinearClosure closure = new LinearClosure(universe.size(), dependencies);
+		List<EncodedDependency> basis = new ArrayList<>(dependencies.size());
+		for (EncodedDependency currDependency : dependencies) {
+			basis.add(new EncodedDependency(currDependency.lhs(), closure.closure(currDependency.lhs())));
+		}
+
+		boolean[] removed = new boolean[basis.size()];
+		for (int i = 0; i < basis.size(); i++) {
+			boolean[] excluded = removed.clone();
+			excluded[i] = true;
+			AttributeSet lhs = new LinearClosure(universe.size(), basis).closure(basis.get(i).lhs(), excluded);
+
+			if (lhs.equals(basis.get(i).rhs())) {
+				removed[i] = true;
+			} else {
+				basis.set(i, new EncodedDependency(lhs, basis.get(i).rhs()));
+			}
+		}
+
+		List<EncodedDependency> result = new ArrayList<>();
+		for (int i = 0; i < basis.size(); i++) {
+			if (!removed[i]) {
+				result.add(basis.get(i));
+			}
+		}
+		return result;
+	}
+
+	private static int compareIndices(AttributeSet attributes1, AttributeSet attributes2) {
+		return Arrays.compare(attributes1.toIndices(), attributes2.toIndices());
+	}
+}
@@ -1,10 +1,13 @@
 package at.jku.dke.task_app.fanf.evaluation.algorithms;
 
 
+import at.jku.dke.task_app.fanf.evaluation.model.AttributeSet;
+import at.jku.dke.task_app.fanf.evaluation.model.AttributeUniverse;
+import at.jku.dke.task_app.fanf.evaluation.model.EncodedDependency;
 import at.jku.dke.task_app.fanf.evaluation.model.FunctionalDependency;
 
-import java.text.Collator;
-import java.util.*;
+import java.util.Collection;
+import java.util.Set;
 
 public class Closure {
 
@@ -20,25 +23,24 @@ private Closure() {
 	 * @return The attribute closure for the passed attributes given the passed dependencies
 	 */
 	public static Set<String> execute(Collection<String> attributes, Collection<FunctionalDependency> dependencies) {
-		Set<String> closure = new TreeSet<>(Collator.getInstance());
-		closure.addAll(attributes);
-
-		Set<FunctionalDependency> remainingDependencies = new HashSet<>(dependencies);
-
-		// While there are any functional dependencies suitable for extending the closure ... (Gerald Wimmer, 2024-01-11)
-		while (remainingDependencies.stream().anyMatch(fd -> closure.containsAll(fd.getLhsAttributes()))) {
-			// Extend the closure and remove the utilized functional dependency (Gerald Wimmer, 2024-01-11)
-			Iterator<FunctionalDependency> dependencyIterator = remainingDependencies.iterator();
-			while(dependencyIterator.hasNext()) {
-				FunctionalDependency dependency = dependencyIterator.next();
-
-				if(closure.containsAll(dependency.getLhsAttributes())) {
-					closure.addAll(dependency.getRhsAttributes());
-					dependencyIterator.remove();
-				}
-			}
+		AttributeUniverse universe = AttributeUniverse.of(attributes, dependencies);
+
+		return universe.decode(execute(universe.encode(attributes), universe.encodeAll(dependencies)));
+	}
+
+	/**
+	 * Returns the attribute closure for the passed attributes given the passed dependencies, all of which have to be
+	 * encoded with respect to the same <code>AttributeUniverse</code>.
+	 * @param attributes The attributes whose closure is to be determined.
+	 * @param dependencies The encoded functional dependencies based on which the closure is to be determined.
+	 * @return The attribute closure for the passed attributes given the passed dependencies
+	 */
+	public static AttributeSet execute(AttributeSet attributes, Collection<EncodedDependency> dependencies) {
+		int universeSize = attributes.length();
+		for (EncodedDependency dependency : dependencies) {
+			universeSize = Math.max(universeSize, Math.max(dependency.lhs().length(), dependency.rhs().length()));
 		}
 
-		return closure;
+		return new LinearClosure(universeSize, dependencies).closure(attributes);
 	}
 }
@@ -0,0 +1,91 @@
+package at.jku.dke.task_app.fanf.evaluation.algorithms;
+
+import at.jku.dke.task_app.fanf.evaluation.model.AttributeSet;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A bounded, least-recently-used memo table of attribute closures for one {@link CompiledDependencySet}, identified by
+ * the fingerprint of that set. Entries are evicted once the maximum size is exceeded.
+ * <br><br>
+ * All methods are thread-safe.
+ */
+public class ClosureCache {
+
+	private final long fingerprint;
+	private final int maxSize;
+	private final LinkedHashMap<AttributeSet, AttributeSet> closures;
+	private long hits;
+	private long misses;
+
+	/**
+	 * Creates a new <code>ClosureCache</code>.
+	 * @param fingerprint The fingerprint of the dependency set whose closures are cached
+	 * @param maxSize The maximum number of cached closures
+	 */
+	public ClosureCache(long fingerprint, int maxSize) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("The maximum size of a closure cache must be positive.");
+		}
+
+		this.fingerprint = fingerprint;
+		this.maxSize = maxSize;
+		this.closures = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<AttributeSet, AttributeSet> eldest) {
+				return size() > ClosureCache.this.maxSize;
+			}
+		};
+	}
+
+	/**
+	 * Returns the cached closure of the supplied attributes, computing and caching it first if necessary.
+	 * @param attributes The attributes whose closure is requested
+	 * @param closureFunction The function computing the closure on a cache miss
+	 * @return The attribute closure
+	 */
+	public synchronized AttributeSet get(AttributeSet attributes, Function<AttributeSet, AttributeSet> closureFunction) {
+		AttributeSet closure = this.closures.get(attributes);
+		if (closure != null) {
+			this.hits++;
+			return closure;
+		}
+
+		this.misses++;
+		closure = closureFunction.apply(attributes);
+		this.closures.put(attributes, closure);
+		return closure;
+	}
+
+	public long getFingerprint() {
+		return this.fingerprint;
+	}
+
+	public int getMaxSize() {
+		return this.maxSize;
+	}
+
+	public synchronized int size() {
+		return this.closures.size();
+	}
+
+	public synchronized long getHits() {
+		return this.hits;
+	}
+
+	public synchronized long getMisses() {
+		return this.misses;
+	}
+
+	public synchronized void clear() {
+		this.closures.clear();
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "ClosureCache[fingerprint=" + Long.toHexString(this.fingerprint) + ", size=" + this.closures.size() +
+				", hits=" + this.hits + ", misses=" + this.misses + "]";
+	}
+}
@@ -0,0 +1,124 @@
+package at.jku.dke.task_app.fanf.evaluation.algorithms;
+
+import at.jku.dke.task_app.fanf.evaluation.model.AttributeClassification;
+import at.jku.dke.task_app.fanf.evaluation.model.AttributeSet;
+import at.jku.dke.task_app.fanf.evaluation.model.AttributeUniverse;
+import at.jku.dke.task_app.fanf.evaluation.model.EncodedDependency;
+import at.jku.dke.task_app.fanf.evaluation.model.FunctionalDependency;
+import at.jku.dke.task_app.fanf.evaluation.model.Relation;
+
+import java.util.*;
+
+/**
+ * Determines the functional dependencies of a subscheme by taking the closures of subsets of the subscheme, as an
+ * alternative to {@link ReductionByResolution}, whose intermediate sets of resolvents can grow combinatorially.
+ * <br><br>
+ * The projection of <code>F</code> onto a subscheme <code>S</code> is covered by the dependencies
+ * <code>X -&gt; (X+ &#8745; S) - X</code> for <code>X &#8838; S</code>. Only subsets of those attributes of
+ * <code>S</code> that occur on some left-hand side (L and LR attributes) are enumerated, and only free subsets (i.e.,
+ * no attribute is contained in the closure of the others) are extended, as every superset of a subset that is not
+ * free, in particular of a key of <code>S</code>, only yields dependencies implied by those of its subsets. The
+ * {@link CanonicalCover} of the collected dependencies is returned, which is the same as that returned by
+ * {@link ReductionByResolution}.
+ * <br><br>
+ * Like {@link ReductionByResolution}, only the attributes of the base relation that are absent from the subscheme
+ * are projected away; attributes that only occur in the dependencies are kept.
+ */
+public class ClosureProjection {
+
+	private ClosureProjection() {
+		// This class is not meant to be instantiated.
+	}
+
+	/**
+	 * Determines the functional dependencies of the subscheme of a base relation.
+	 * @param rel The base relation
+	 * @param subscheme The subscheme
+	 * @return A minimal cover of the functional dependencies of the subscheme, with dependencies of identical
+	 * left-hand sides folded into one
+	 */
+	public static Set<FunctionalDependency> execute(Relation rel, Collection<String> subscheme) {
+		Set<FunctionalDependency> dependencies = MinimalCover.unfold(rel.getFunctionalDependencies());
+
+		Set<String> attributes = new HashSet<>(rel.getAttributes());
+		attributes.addAll(subscheme);
+		AttributeUniverse universe = AttributeUniverse.of(attributes, dependencies);
+		CompiledDependencySet compiledDependencies = new CompiledDependencySet(universe, dependencies);
+
+		/*
+		 * Keep every attribute except those of the base relation that are absent from the subscheme.
+		 */
+		AttributeSet target = universe.full();
+		for (String currAttribute : rel.getAttributes()) {
+			if (!subscheme.contains(currAttribute)) {
+				target = target.without(universe.indexOf(currAttribute));
+			}
+		}
+
+		AttributeClassification classification = AttributeClassification.classify(target, compiledDependencies.getDependencies());
+		int[] candidates = classification.getLhsOnly().union(classification.getBoth()).toIndices();
+		AttributeSet derivable = classification.getRhsOnly().union(classification.getBoth());
+
+		Set<FunctionalDependency> result = new HashSet<>();
+		project(compiledDependencies, derivable, candidates, 0, universe.empty(), universe.empty(), result);
+
+		return CanonicalCover.execute(result);
+	}
+
+	/**
+	 * Extends the free left-hand side <code>lhs</code> by each candidate from position <code>from</code> on, adds the
+	 * dependency of every free extension to <code>result</code> and recurses into those extensions whose closure
+	 * lacks some derivable target attribute. (Any further extension of a left-hand side deriving all of them only
+	 * yields implied dependencies.)
+	 * @param dependencies The compiled functional dependencies of the base relation
+	 * @param derivable The target attributes occurring on some right-hand side
+	 * @param candidates The target attributes occurring on some left-hand side
+	 * @param from The position of the first candidate to be added
+	 * @param lhs The current left-hand side
+	 * @param lhsClosure The closure of <code>lhs</code>
+	 * @param result The projected functional dependencies found so far
+	 */
+	private static void project(CompiledDependencySet dependencies, AttributeSet derivable, int[] candidates, int from,
+								AttributeSet lhs, AttributeSet lhsClosure, Set<FunctionalDependency> result) {
+		AttributeUniverse universe = dependencies.getUniverse();
+
+		for (int i = from; i < candidates.length; i++) {
+			if (lhsClosure.contains(candidates[i])) {
+				continue;
+			}
+
+			AttributeSet extendedLhs = lhs.with(candidates[i]);
+			if (!isFree(dependencies, extendedLhs, candidates[i])) {
+				continue;
+			}
+
+			AttributeSet extendedClosure = dependencies.closure(extendedLhs);
+			AttributeSet rhs = extendedClosure.intersection(derivable).minus(extendedLhs);
+			if (!rhs.isEmpty()) {
+				result.add(universe.decode(new EncodedDependency(extendedLhs, rhs)));
+			}
+
+			if (!extendedClosure.containsAll(derivable)) {
+				project(dependencies, derivable, candidates, i + 1, extendedLhs, extendedClosure, result);
+			}
+		}
+	}
+
+	/**
+	 * Tests whether no attribute of <code>lhs</code> other than <code>added</code> is contained in the closure of the
+	 * remaining attributes, given that <code>lhs</code> without <code>added</code> is free and does not derive
+	 * <code>added</code>.
+	 * @param dependencies The compiled functional dependencies
+	 * @param lhs The attributes to be tested
+	 * @param added The attribute most recently added to <code>lhs</code>
+	 * @return Whether <code>lhs</code> is free
+	 */
+	private static boolean isFree(CompiledDependencySet dependencies, AttributeSet lhs, int added) {
+		for (int i = lhs.nextSetBit(0); i >= 0; i = lhs.nextSetBit(i + 1)) {
+			if (i != added && dependencies.closure(lhs.without(i)).contains(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,217 @@
+package at.jku.dke.task_app.fanf.evaluation.algorithms;
+
+import at.jku.dke.task_app.fanf.evaluation.model.AttributeSet;
+import at.jku.dke.task_app.fanf.evaluation.model.AttributeUniverse;
+import at.jku.dke.task_app.fanf.evaluation.model.EncodedDependency;
+import at.jku.dke.task_app.fanf.evaluation.model.FunctionalDependency;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A set of functional dependencies that is compiled once into its bitset form (attribute index, left-hand side
+ * occurrence lists and right-hand side masks), so that any number of closure and membership queries can be answered
+ * without rebuilding anything.
+ * <br><br>
+ * Queries may mention attributes that do not occur in the compiled dependencies. Such attributes are part of a closure
+ * only if they were part of its input, as no dependency can derive them.
+ * <br><br>
+ * If a closure cache size is supplied on construction, closures are memoized transparently in a {@link ClosureCache}
+ * scoped to this set. Instances are otherwise immutable and may be shared between threads.
+ */
+public class CompiledDependencySet {
+
+	private final AttributeUniverse universe;
+	private final List<EncodedDependency> dependencies;
+	private final LinearClosure linearClosure;
+	private final long fingerprint;
+	private final ClosureCache closureCache;
+
+	/**
+	 * Compiles the supplied functional dependencies over the attributes occurring in them.
+	 * @param dependencies The functional dependencies to be compiled
+	 */
+	public CompiledDependencySet(Collection<FunctionalDependency> dependencies) {
+		this(AttributeUniverse.of(List.of(), dependencies), dependencies);
+	}
+
+	/**
+	 * Compiles the supplied functional dependencies over the supplied universe.
+	 * @param universe The <code>AttributeUniverse</code> used to encode the dependencies
+	 * @param dependencies The functional dependencies to be compiled
+	 * @throws IllegalArgumentException If any attribute of the dependencies is not part of the universe
+	 */
+	public CompiledDependencySet(AttributeUniverse universe, Collection<FunctionalDependency> dependencies) {
+		this(universe, dependencies, 0);
+	}
+
+	/**
+	 * Compiles the supplied functional dependencies over the supplied universe and memoizes up to
+	 * <code>closureCacheSize</code> closures.
+	 * @param universe The <code>AttributeUniverse</code> used to encode the dependencies
+	 * @param dependencies The functional dependencies to be compiled
+	 * @param closureCacheSize The maximum number of memoized closures, or 0 if closures are not to be memoized
+	 * @throws IllegalArgumentException If any attribute of the dependencies is not part of the universe
+	 */
+	public CompiledDependencySet(AttributeUniverse universe, Collection<FunctionalDependency> dependencies, int closureCacheSize) {
+		this.universe = universe;
+		this.dependencies = universe.encodeAll(dependencies);
+		this.linearClosure = new LinearClosure(universe.size(), this.dependencies);
+		this.fingerprint = computeFingerprint(universe, this.dependencies);
+		this.closureCache = closureCacheSize > 0 ? new ClosureCache(this.fingerprint, closureCacheSize) : null;
+	}
+
+	public AttributeUniverse getUniverse() {
+		return this.universe;
+	}
+
+	/**
+	 * Returns the encoded dependencies in the iteration order of the collection this set was compiled from.
+	 * @return An unmodifiable <code>List</code> of the encoded dependencies
+	 */
+	public List<EncodedDependency> getDependencies() {
+		return List.copyOf(this.dependencies);
+	}
+
+	public int size() {
+		return this.dependencies.size();
+	}
+
+	/**
+	 * Returns a 64-bit fingerprint of the universe and the dependencies (in their iteration order) of this set.
+	 * @return The fingerprint of this set
+	 */
+	public long getFingerprint() {
+		return this.fingerprint;
+	}
+
+	/**
+	 * Returns the closure cache of this set.
+	 * @return The <code>ClosureCache</code>, or <code>null</code> if closures are not memoized
+	 */
+	public ClosureCache getClosureCache() {
+		return this.closureCache;
+	}
+
+	/**
+	 * Returns the attribute closure of the supplied encoded attributes.
+	 * @param attributes The attributes, encoded with respect to the universe of this set
+	 * @return The attribute closure
+	 */
+	public AttributeSet closure(AttributeSet attributes) {
+		if (this.closureCache != null) {
+			return this.closureCache.get(attributes, this.linearClosure::closure);
+		}
+		return this.linearClosure.closure(attributes);
+	}
+
+	/**
+	 * Returns the attribute closure of the supplied encoded attributes, ignoring the dependencies flagged in
+	 * <code>excludedDependencies</code>. Such closures bypass the closure cache.
+	 * @param attributes The attributes, encoded with respect to the universe of this set
+	 * @param excludedDependencies Flags indexed by the position of a dependency in {@link #getDependencies()}
+	 * @return The attribute closure
+	 */
+	public AttributeSet closure(AttributeSet attributes, boolean[] excludedDependencies) {
+		return this.linearClosure.closure(attributes, excludedDependencies);
+	}
+
+	/**
+	 * Returns the attribute closure of the supplied attributes.
+	 * @param attributes The attributes whose closure is to be determined
+	 * @return A collator-sorted <code>Set</code> containing the attribute closure
+	 */
+	public Set<String> closure(Collection<String> attributes) {
+		Set<String> closure = this.universe.decode(closure(encodeKnown(attributes)));
+		closure.addAll(attributes);
+		return closure;
+	}
+
+	/**
+	 * Tests whether the supplied encoded dependency follows from this set.
+	 * @param dependency The dependency, encoded with respect to the universe of this set
+	 * @return Whether the closure of the left-hand side contains the right-hand side
+	 */
+	public boolean implies(EncodedDependency dependency) {
+		return closure(dependency.lhs()).containsAll(dependency.rhs());
+	}
+
+	/**
+	 * Tests whether the supplied functional dependency follows from this set.
+	 * @param dependency The functional dependency to be tested
+	 * @return Whether the closure of the left-hand side contains the right-hand side
+	 */
+	public boolean implies(FunctionalDependency dependency) {
+		AttributeSet closure = closure(encodeKnown(dependency.getLhsAttributes()));
+		for (String attribute : dependency.getRhsAttributes()) {
+			int index = this.universe.indexOf(attribute);
+			if (index >= 0 ? !closure.contains(index) : !dependency.getLhsAttributes().contains(attribute)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Tests whether every one of the supplied functional dependencies follows from this set.
+	 * @param dependencies The functional dependencies to be tested
+	 * @return Whether this set covers the supplied dependencies
+	 */
+	public boolean covers(Collection<FunctionalDependency> dependencies) {
+		return dependencies.stream().allMatch(this::implies);
+	}
+
+	/**
+	 * Tests whether every dependency of the other set follows from this set.
+	 * @param other The other compiled set
+	 * @return Whether this set covers the other set
+	 */
+	public boolean covers(CompiledDependencySet other) {
+		if (this.universe.equals(other.universe)) {
+			return other.dependencies.stream().allMatch(this::implies);
+		}
+		return other.dependencies.stream().allMatch(fd -> implies(other.universe.decode(fd)));
+	}
+
+	/**
+	 * Tests whether this set and the other set cover each other.
+	 * @param other The other compiled set
+	 * @return Whether both sets are equivalent
+	 */
+	public boolean equivalent(CompiledDependencySet other) {
+		return covers(other) && other.covers(this);
+	}
+
+	private static long computeFingerprint(AttributeUniverse universe, List<EncodedDependency> dependencies) {
+		long fingerprint = 0xcbf29ce484222325L;
+		for (String attribute : universe.getAttributes()) {
+			fingerprint = (fingerprint ^ attribute.hashCode()) * 0x100000001b3L;
+		}
+		for (EncodedDependency dependency : dependencies) {
+			for (long word : dependency.lhs().toWords()) {
+				fingerprint = (fingerprint ^ word) * 0x100000001b3L;
+			}
+			fingerprint = (fingerprint ^ 0x2d) * 0x100000001b3L;
+			for (long word : dependency.rhs().toWords()) {
+				fingerprint = (fingerprint ^ word) * 0x100000001b3L;
+			}
+			fingerprint = (fingerprint ^ 0x3b) * 0x100000001b3L;
+		}
+		return fingerprint;
+	}
+
+	/**
+	 * Encodes those of the supplied attributes that are part of the universe of this set.
+	 */
+	private AttributeSet encodeKnown(Collection<String> attributes) {
+		long[] words = new long[AttributeSet.wordCount(this.universe.size())];
+		for (String attribute : attributes) {
+			int index = this.universe.indexOf(attribute);
+			if (index >= 0) {
+				words[index >>> 6] |= 1L << index;
+			}
+		}
+		return AttributeSet.ofWords(words);
+	}
+}
@@ -1,9 +1,13 @@
 package at.jku.dke.task_app.fanf.evaluation.algorithms;
 
 
+import at.jku.dke.task_app.fanf.evaluation.model.AttributeUniverse;
+import at.jku.dke.task_app.fanf.evaluation.model.EncodedDependency;
 import at.jku.dke.task_app.fanf.evaluation.model.FunctionalDependency;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 public class Cover {
 
@@ -20,7 +24,36 @@ private Cover() {
 	 * functional dependencies. (Gerald Wimmer, 2023-12-31)
 	 */
 	public static boolean execute(Collection<FunctionalDependency> fd1, Collection<FunctionalDependency> fd2) {
-		return fd1.stream().allMatch(fd -> Member.execute(fd, fd2)) &&
-				fd2.stream().allMatch(fd -> Member.execute(fd, fd1));
+		List<FunctionalDependency> allDependencies = new ArrayList<>(fd1);
+		allDependencies.addAll(fd2);
+		AttributeUniverse universe = AttributeUniverse.of(List.of(), allDependencies);
+
+		return new CompiledDependencySet(universe, fd1).equivalent(new CompiledDependencySet(universe, fd2));
+	}
+
+	/**
+	 * Tests whether two lists of encoded functional dependencies, both encoded with respect to the same
+	 * <code>AttributeUniverse</code>, cover each other.
+	 * @param fd1 a list of encoded functional dependencies
+	 * @param fd2 a list of encoded functional dependencies
+	 * @return Whether each functional dependency in either list would still apply based on the other list of
+	 * functional dependencies.
+	 */
+	public static boolean execute(List<EncodedDependency> fd1, List<EncodedDependency> fd2) {
+		LinearClosure closure1 = new LinearClosure(universeSize(fd1, fd2), fd1);
+		LinearClosure closure2 = new LinearClosure(closure1.getUniverseSize(), fd2);
+
+		return fd1.stream().allMatch(fd -> closure2.closure(fd.lhs()).containsAll(fd.rhs())) &&
+				fd2.stream().allMatch(fd -> closure1.closure(fd.lhs()).containsAll(fd.rhs()));
+	}
+
+	private static int universeSize(List<EncodedDependency> fd1, List<EncodedDependency> fd2) {
+		int universeSize = 0;
+		for (List<EncodedDependency> dependencies : List.of(fd1, fd2)) {
+			for (EncodedDependency dependency : dependencies) {
+				universeSize = Math.max(universeSize, Math.max(dependency.lhs().length(), dependency.rhs().length()));
+			}
+		}
+		return universeSize;
 	}
 }
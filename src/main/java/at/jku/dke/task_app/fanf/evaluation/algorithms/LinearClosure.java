@@ -0,0 +1,138 @@
+package at.jku.dke.task_app.fanf.evaluation.algorithms;
+
+import at.jku.dke.task_app.fanf.evaluation.model.AttributeSet;
+import at.jku.dke.task_app.fanf.evaluation.model.EncodedDependency;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Counter-based attribute closure engine following Beeri and Bernstein (LINCLOSURE).
+ * <br><br>
+ * The dependencies are precompiled once into a list of left-hand side occurrences per attribute and the size of every
+ * left-hand side. Each closure then keeps one counter of missing left-hand side attributes per dependency and fires a
+ * dependency as soon as its counter reaches zero, so that a closure costs O(total size of the dependencies) instead of
+ * repeatedly rescanning all remaining dependencies.
+ * <br><br>
+ * Instances are immutable and may be shared between threads.
+ */
+public class LinearClosure {
+
+	private final int universeSize;
+	private final int[][] lhsOccurrences;
+	private final int[] lhsSizes;
+	private final int[][] rhsAttributes;
+	private final int[] unconditionalDependencies;
+
+	/**
+	 * Compiles the supplied encoded dependencies.
+	 * @param universeSize The number of attributes of the <code>AttributeUniverse</code> the dependencies were
+	 *                        encoded with
+	 * @param dependencies The encoded functional dependencies
+	 */
+	public LinearClosure(int universeSize, Collection<EncodedDependency> dependencies) {
+		this.universeSize = universeSize;
+		this.lhsSizes = new int[dependencies.size()];
+		this.rhsAttributes = new int[dependencies.size()][];
+
+		int[] occurrenceCounts = new int[universeSize];
+		List<Integer> unconditional = new ArrayList<>();
+		int fd = 0;
+		for (EncodedDependency dependency : dependencies) {
+			int[] lhs = dependency.lhs().toIndices();
+			this.lhsSizes[fd] = lhs.length;
+			this.rhsAttributes[fd] = dependency.rhs().toIndices();
+			for (int attribute : lhs) {
+				occurrenceCounts[attribute]++;
+			}
+			if (lhs.length == 0) {
+				unconditional.add(fd);
+			}
+			fd++;
+		}
+
+		this.lhsOccurrences = new int[universeSize][];
+		for (int attribute = 0; attribute < universeSize; attribute++) {
+			this.lhsOccurrences[attribute] = new int[occurrenceCounts[attribute]];
+		}
+		Arrays.fill(occurrenceCounts, 0);
+		fd = 0;
+		for (EncodedDependency dependency : dependencies) {
+			AttributeSet lhs = dependency.lhs();
+			for (int attribute = lhs.nextSetBit(0); attribute >= 0; attribute = lhs.nextSetBit(attribute + 1)) {
+				this.lhsOccurrences[attribute][occurrenceCounts[attribute]++] = fd;
+			}
+			fd++;
+		}
+
+		this.unconditionalDependencies = unconditional.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	public int getUniverseSize() {
+		return this.universeSize;
+	}
+
+	public int getDependencyCount() {
+		return this.lhsSizes.length;
+	}
+
+	/**
+	 * Returns the attribute closure of the supplied attributes.
+	 * @param attributes The attributes whose closure is to be determined
+	 * @return The attribute closure
+	 */
+	public AttributeSet closure(AttributeSet attributes) {
+		return closure(attributes, null);
+	}
+
+	/**
+	 * Returns the attribute closure of the supplied attributes, ignoring the dependencies flagged in
+	 * <code>excludedDependencies</code>.
+	 * @param attributes The attributes whose closure is to be determined
+	 * @param excludedDependencies Flags indexed by the position of a dependency in the compiled collection, or
+	 *                                <code>null</code> if all dependencies are to be used
+	 * @return The attribute closure
+	 */
+	public AttributeSet closure(AttributeSet attributes, boolean[] excludedDependencies) {
+		long[] closure = Arrays.copyOf(attributes.toWords(), Math.max(AttributeSet.wordCount(this.universeSize), AttributeSet.wordCount(attributes.length())));
+		int[] missing = this.lhsSizes.clone();
+		int[] queue = new int[this.universeSize];
+		int tail = 0;
+
+		for (int attribute = attributes.nextSetBit(0); attribute >= 0 && attribute < this.universeSize; attribute = attributes.nextSetBit(attribute + 1)) {
+			queue[tail++] = attribute;
+		}
+
+		for (int fd : this.unconditionalDependencies) {
+			if (excludedDependencies == null || !excludedDependencies[fd]) {
+				tail = fire(fd, closure, queue, tail);
+			}
+		}
+
+		for (int head = 0; head < tail; head++) {
+			for (int fd : this.lhsOccurrences[queue[head]]) {
+				if (--missing[fd] == 0 && (excludedDependencies == null || !excludedDependencies[fd])) {
+					tail = fire(fd, closure, queue, tail);
+				}
+			}
+		}
+
+		return AttributeSet.ofWords(closure);
+	}
+
+	/**
+	 * Adds the right-hand side of a dependency to the closure and enqueues every newly added attribute.
+	 */
+	private int fire(int fd, long[] closure, int[] queue, int tail) {
+		for (int attribute : this.rhsAttributes[fd]) {
+			long bit = 1L << attribute;
+			if ((closure[attribute >>> 6] & bit) == 0) {
+				closure[attribute >>> 6] |= bit;
+				queue[tail++] = attribute;
+			}
+		}
+		return tail;
+	}
+}
@@ -1,5 +1,6 @@
 package at.jku.dke.task_app.fanf.evaluation.algorithms;
 
+import at.jku.dke.task_app.fanf.evaluation.model.EncodedDependency;
 import at.jku.dke.task_app.fanf.evaluation.model.FunctionalDependency;
 
 import java.util.Collection;
@@ -19,6 +20,19 @@ private Member() {
 	 * attributes on its right-hand side
 	 */
 	public static boolean execute(FunctionalDependency dependency, Collection<FunctionalDependency> dependencies){
-		return Closure.execute(dependency.getLhsAttributes(), dependencies).containsAll(dependency.getRhsAttributes());
+		return new CompiledDependencySet(dependencies).implies(dependency);
+	}
+
+	/**
+	 * Tests whether the attribute closure for the left-hand side of the passed encoded functional dependency contains
+	 * all attributes on its right-hand side, based on another set of encoded functional dependencies.
+	 * @param dependency The encoded functional dependency to be tested
+	 * @param dependencies The encoded functional dependencies that serve as a base for determining the attribute
+	 *                        closure
+	 * @return Whether the attribute closure for the left-hand side of the passed functional dependency contains all
+	 * attributes on its right-hand side
+	 */
+	public static boolean execute(EncodedDependency dependency, Collection<EncodedDependency> dependencies){
+		return Closure.execute(dependency.lhs(), dependencies).containsAll(dependency.rhs());
 	}
 }
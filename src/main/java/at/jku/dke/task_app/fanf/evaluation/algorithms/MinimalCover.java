@@ -1,5 +1,8 @@
 package at.jku.dke.task_app.fanf.evaluation.algorithms;
 
+import at.jku.dke.task_app.fanf.evaluation.model.AttributeSet;
+import at.jku.dke.task_app.fanf.evaluation.model.AttributeUniverse;
+import at.jku.dke.task_app.fanf.evaluation.model.EncodedDependency;
 import at.jku.dke.task_app.fanf.evaluation.model.FunctionalDependency;
 import java.util.*;
 
@@ -33,57 +36,98 @@ public static Set<FunctionalDependency> execute(Collection<FunctionalDependency>
 		return minimalCover;
 	}
 
+	/**
+	 * Determines the functional dependencies that follow from the others, testing them in iteration order. A
+	 * dependency <code>X -&gt; Y</code> is redundant iff <code>Y</code> is contained in the closure of <code>X</code>
+	 * under all dependencies except itself and those already found to be redundant, which are masked out of the
+	 * compiled set instead of being removed from a copy.
+	 * @param dependencies The functional dependencies
+	 * @return The redundant functional dependencies
+	 */
 	public static Set<FunctionalDependency> calculateRedundantFunctionalDependencies(Collection<FunctionalDependency> dependencies){
-		List<FunctionalDependency> tempDependencies = new LinkedList<>();
+		CompiledDependencySet compiledDependencies = new CompiledDependencySet(dependencies);
+		List<EncodedDependency> encodedDependencies = compiledDependencies.getDependencies();
+		FunctionalDependency[] dependencyArray = dependencies.toArray(new FunctionalDependency[0]);
+		boolean[] excluded = new boolean[dependencyArray.length];
 		HashSet<FunctionalDependency> redundantDependencies = new HashSet<>();
 
-        for (FunctionalDependency currDependency : dependencies) {
-            tempDependencies.clear();
-            tempDependencies.addAll(dependencies);
-            tempDependencies.remove(currDependency);
-            tempDependencies.removeAll(redundantDependencies);
+		// Without duplicates, the dependencies left unmasked always imply the masked ones, so testing the current
+		// dependency suffices. Duplicates are masked out together, which may break that invariant.
+		boolean hasDuplicates = new HashSet<>(dependencies).size() < dependencyArray.length;
 
-            if (Cover.execute(tempDependencies, dependencies)) {
-                redundantDependencies.add(currDependency);
-            }
-        }
+		for (int i = 0; i < dependencyArray.length; i++) {
+			FunctionalDependency currDependency = dependencyArray[i];
+			int first = firstIndexOf(dependencyArray, currDependency);
+			boolean wasExcluded = excluded[first];
+			excluded[first] = true;
+
+			boolean redundant = isImplied(compiledDependencies, encodedDependencies.get(i), excluded);
+			for (int j = 0; redundant && hasDuplicates && j < dependencyArray.length; j++) {
+				redundant = !excluded[j] || isImplied(compiledDependencies, encodedDependencies.get(j), excluded);
+			}
+
+			if (redundant) {
+				redundantDependencies.add(currDependency);
+				for (int j = 0; j < dependencyArray.length; j++) {
+					if (dependencyArray[j].equals(currDependency)) {
+						excluded[j] = true;
+					}
+				}
+			} else {
+				excluded[first] = wasExcluded;
+			}
+		}
 
 		return redundantDependencies;
 	}
 
-
+	/**
+	 * Determines the extraneous left-hand side attributes of each functional dependency, testing them in iteration
+	 * order. An attribute <code>A</code> is extraneous in <code>X -&gt; Y</code> iff <code>Y</code> is contained in the
+	 * closure of <code>X</code> without <code>A</code> and the attributes already found to be extraneous in it.
+	 * @param dependencies The functional dependencies
+	 * @return The extraneous attributes of each functional dependency that has any
+	 */
 	public static Map<FunctionalDependency, List<String>> calculateExtraneousAttributes (Collection<FunctionalDependency> dependencies) {
-		List<FunctionalDependency> tempFDs = new LinkedList<>();
-		FunctionalDependency tempFD = new FunctionalDependency();
+		CompiledDependencySet compiledDependencies = new CompiledDependencySet(dependencies);
+		AttributeUniverse universe = compiledDependencies.getUniverse();
 		Map<FunctionalDependency, List<String>> extraneousAttributes = new HashMap<>();
 
         for (FunctionalDependency currFD : dependencies) {
+			AttributeSet lhs = universe.encode(currFD.getLhsAttributes());
+			AttributeSet rhs = universe.encode(currFD.getRhsAttributes());
+
 			for (String currAttribute : currFD.getLhsAttributes()) {
-                tempFD.setLhsAttributes(currFD.getLhsAttributes());
-                tempFD.setRhsAttributes(currFD.getRhsAttributes());
-                tempFD.removeLhsAttribute(currAttribute);
-
-                if (extraneousAttributes.containsKey(currFD)) {
-                    tempFD.removeLhsAttributes(extraneousAttributes.get(currFD));
-                }
-
-                tempFDs.clear();
-                tempFDs.addAll(dependencies);
-                tempFDs.remove(currFD);
-                tempFDs.add(tempFD);
-
-                if (Cover.execute(dependencies, tempFDs)) {
-                    if (!extraneousAttributes.containsKey(currFD)) {
-                        extraneousAttributes.put(currFD, new LinkedList<>());
-                    }
-                    extraneousAttributes.get(currFD).add(currAttribute);
-                }
-            }
-        }
+				AttributeSet reducedLhs = lhs.without(universe.indexOf(currAttribute));
+				if (extraneousAttributes.containsKey(currFD)) {
+					reducedLhs = reducedLhs.minus(universe.encode(extraneousAttributes.get(currFD)));
+				}
+
+				if (compiledDependencies.closure(reducedLhs).containsAll(rhs)) {
+					if (!extraneousAttributes.containsKey(currFD)) {
+						extraneousAttributes.put(currFD, new LinkedList<>());
+					}
+					extraneousAttributes.get(currFD).add(currAttribute);
+				}
+			}
+		}
 
 		return extraneousAttributes;
 	}
 
+	private static boolean isImplied(CompiledDependencySet dependencies, EncodedDependency dependency, boolean[] excluded) {
+		return dependencies.closure(dependency.lhs(), excluded).containsAll(dependency.rhs());
+	}
+
+	private static int firstIndexOf(FunctionalDependency[] dependencies, FunctionalDependency dependency) {
+		for (int i = 0; i < dependencies.length; i++) {
+			if (dependencies[i].equals(dependency)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
 	public static Set<FunctionalDependency> fold(Collection<FunctionalDependency> dependencies) {
 		Set<FunctionalDependency> foldedDependencies = new HashSet<>();
 		Set<FunctionalDependency> processedDependencies = new HashSet<>();
@@ -0,0 +1,134 @@
+package at.jku.dke.task_app.fanf.evaluation.algorithms;
+
+import at.jku.dke.task_app.fanf.evaluation.model.FunctionalDependency;
+import at.jku.dke.task_app.fanf.evaluation.model.Relation;
+
+import java.util.*;
+
+/**
+ * Determines the functional dependencies of a subscheme, choosing between {@link ReductionByResolution} and
+ * {@link ClosureProjection} based on a rough estimate of the work each of them would do.
+ * <br><br>
+ * Reduction by resolution creates up to <code>in * out</code> resolvents when eliminating an attribute that occurs on
+ * <code>in</code> right-hand sides and <code>out</code> left-hand sides, and the resolvents of one elimination feed
+ * into the next, so its cost is estimated as <code>|F|</code> times the product of these numbers over all eliminated
+ * attributes. The closure-based projection takes up to one closure per subset of the <code>c</code> attributes of the
+ * subscheme occurring on left-hand sides, so its cost is estimated as <code>|F| * 2^c</code>.
+ * <br><br>
+ * Both engines return the {@link CanonicalCover} of the projected dependencies, so the choice only affects how long
+ * the projection takes, but not its result.
+ * <br><br>
+ * Grading deducts a penalty per missing dependency of a subscheme, so expecting the canonical cover instead of the
+ * resolvents of reduction by resolution changes scores, e.g., <code>AD -&gt; C</code> is no longer expected next to
+ * <code>A -&gt; C</code>. Until the canonical cover is enabled with {@link #setCanonicalCover(boolean)},
+ * {@link #execute(Relation, Collection)} therefore still returns the resolvents of reduction by resolution.
+ */
+public class Projection {
+
+	/**
+	 * The maximum number of left-hand side attributes of a subscheme for which the closure-based projection is
+	 * considered.
+	 */
+	public static final int MAX_CLOSURE_CANDIDATES = 24;
+
+	/**
+	 * The algorithms available for projecting functional dependencies onto a subscheme.
+	 */
+	public enum Engine {
+		REDUCTION_BY_RESOLUTION,
+		CLOSURE
+	}
+
+	private static volatile boolean canonicalCover = false;
+
+	private Projection() {
+		// This class is not meant to be instantiated.
+	}
+
+	/**
+	 * Sets whether {@link #execute(Relation, Collection)} returns the canonical cover of the projected dependencies
+	 * instead of the resolvents of reduction by resolution. As this changes the grading of normalizations, it is
+	 * disabled by default and to be set on startup, before any projection is determined.
+	 * @param enabled Whether the canonical cover is returned
+	 */
+	public static void setCanonicalCover(boolean enabled) {
+		canonicalCover = enabled;
+	}
+
+	/**
+	 * Determines the functional dependencies of the subscheme of a base relation. If the canonical cover is enabled,
+	 * the engine chosen by {@link #selectEngine(Relation, Collection)} is used, otherwise
+	 * {@link ReductionByResolution#executeUnpruned(Relation, Collection)}.
+	 * @param rel The base relation
+	 * @param subscheme The subscheme
+	 * @return The functional dependencies of the subscheme
+	 */
+	public static Set<FunctionalDependency> execute(Relation rel, Collection<String> subscheme) {
+		if (!canonicalCover) {
+			return ReductionByResolution.executeUnpruned(rel, subscheme);
+		}
+		return execute(rel, subscheme, selectEngine(rel, subscheme));
+	}
+
+	/**
+	 * Determines the functional dependencies of the subscheme of a base relation using the supplied engine.
+	 * @param rel The base relation
+	 * @param subscheme The subscheme
+	 * @param engine The projection engine
+	 * @return The canonical cover of the functional dependencies of the subscheme
+	 */
+	public static Set<FunctionalDependency> execute(Relation rel, Collection<String> subscheme, Engine engine) {
+		return switch (engine) {
+			case REDUCTION_BY_RESOLUTION -> ReductionByResolution.execute(rel, subscheme);
+			case CLOSURE -> ClosureProjection.execute(rel, subscheme);
+		};
+	}
+
+	/**
+	 * Chooses the projection engine whose estimated cost for the supplied base relation and subscheme is lower.
+	 * @param rel The base relation
+	 * @param subscheme The subscheme
+	 * @return The projection engine to be used
+	 */
+	public static Engine selectEngine(Relation rel, Collection<String> subscheme) {
+		Set<FunctionalDependency> dependencies = MinimalCover.unfold(rel.getFunctionalDependencies());
+
+		Map<String, Integer> lhsOccurrences = new HashMap<>();
+		Map<String, Integer> rhsOccurrences = new HashMap<>();
+		for (FunctionalDependency currDependency : dependencies) {
+			for (String currAttribute : currDependency.getLhsAttributes()) {
+				lhsOccurrences.merge(currAttribute, 1, Integer::sum);
+			}
+			for (String currAttribute : currDependency.getRhsAttributes()) {
+				rhsOccurrences.merge(currAttribute, 1, Integer::sum);
+			}
+		}
+
+		/*
+		 * Every attribute that is not eliminated and occurs on a left-hand side is a candidate for the closure-based
+		 * projection.
+		 */
+		Set<String> eliminatedAttributes = new HashSet<>(rel.getAttributes());
+		eliminatedAttributes.removeAll(subscheme);
+
+		int closureCandidates = 0;
+		for (String currAttribute : lhsOccurrences.keySet()) {
+			if (!eliminatedAttributes.contains(currAttribute)) {
+				closureCandidates++;
+			}
+		}
+
+		if (closureCandidates > MAX_CLOSURE_CANDIDATES) {
+			return Engine.REDUCTION_BY_RESOLUTION;
+		}
+
+		double resolutionCost = 0;
+		for (String currAttribute : eliminatedAttributes) {
+			int resolvents = lhsOccurrences.getOrDefault(currAttribute, 0) * rhsOccurrences.getOrDefault(currAttribute, 0);
+			resolutionCost += Math.log(Math.max(1, resolvents)) / Math.log(2);
+		}
+
+		// Both estimates share the factor |F|, so only the base-2 logarithms of the remaining factors are compared.
+		return closureCandidates < resolutionCost ? Engine.CLOSURE : Engine.REDUCTION_BY_RESOLUTION;
+	}
+}
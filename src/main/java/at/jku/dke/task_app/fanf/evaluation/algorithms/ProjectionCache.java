@@ -0,0 +1,214 @@
+package at.jku.dke.task_app.fanf.evaluation.algorithms;
+
+import at.jku.dke.task_app.fanf.evaluation.model.AttributeUniverse;
+import at.jku.dke.task_app.fanf.evaluation.model.EncodedDependency;
+import at.jku.dke.task_app.fanf.evaluation.model.FunctionalDependency;
+import at.jku.dke.task_app.fanf.evaluation.model.Relation;
+
+import java.util.*;
+
+/**
+ * A bounded, least-recently-used cache of the functional dependencies projected onto subschemes of base relations,
+ * shared by all submissions. Entries are keyed by a fingerprint of the attributes and functional dependencies of the
+ * base relation together with the sorted subscheme, so that a changed base relation never hits stale entries;
+ * {@link #invalidate(Relation)} merely frees the entries of a base relation that is no longer used.
+ * <br><br>
+ * As <code>FunctionalDependency</code> objects are mutable, the cache stores and hands out copies only.
+ * <br><br>
+ * All methods are thread-safe. A projection missing from the cache is computed without holding the lock, so that
+ * concurrent requests for other projections are not blocked.
+ */
+public class ProjectionCache {
+
+	/**
+	 * The default maximum number of cached projections.
+	 */
+	public static final int DEFAULT_MAX_SIZE = 1024;
+
+	private static final ProjectionCache SHARED = new ProjectionCache(DEFAULT_MAX_SIZE);
+
+	private final LinkedHashMap<CacheKey, List<FunctionalDependency>> projections;
+	private int maxSize;
+	private long hits;
+	private long misses;
+	private long evictions;
+
+	/**
+	 * Creates a new <code>ProjectionCache</code>.
+	 * @param maxSize The maximum number of cached projections, or 0 if projections are not to be cached
+	 */
+	public ProjectionCache(int maxSize) {
+		if (maxSize < 0) {
+			throw new IllegalArgumentException("The maximum size of a projection cache must not be negative.");
+		}
+
+		this.maxSize = maxSize;
+		this.projections = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<CacheKey, List<FunctionalDependency>> eldest) {
+				if (size() > ProjectionCache.this.maxSize) {
+					ProjectionCache.this.evictions++;
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Returns the projection cache shared by all analyzers.
+	 * @return The shared <code>ProjectionCache</code>
+	 */
+	public static ProjectionCache getShared() {
+		return SHARED;
+	}
+
+	/**
+	 * Returns the functional dependencies of the subscheme of a base relation as determined by
+	 * {@link Projection#execute(Relation, Collection)}, computing and caching them first if necessary.
+	 * @param rel The base relation
+	 * @param subscheme The subscheme
+	 * @return A copy of the functional dependencies of the subscheme
+	 */
+	public Set<FunctionalDependency> execute(Relation rel, Collection<String> subscheme) {
+		CacheKey key = new CacheKey(fingerprint(rel), sort(subscheme));
+
+		List<FunctionalDependency> projection;
+		synchronized (this) {
+			projection = this.projections.get(key);
+			if (projection != null) {
+				this.hits++;
+				return copy(projection);
+			}
+			this.misses++;
+		}
+
+		projection = List.copyOf(copy(Projection.execute(rel, subscheme)));
+		synchronized (this) {
+			if (this.maxSize > 0) {
+				this.projections.put(key, projection);
+			}
+		}
+		return copy(projection);
+	}
+
+	/**
+	 * Removes all cached projections of the supplied base relation.
+	 * @param rel The base relation
+	 */
+	public void invalidate(Relation rel) {
+		long fingerprint = fingerprint(rel);
+		synchronized (this) {
+			this.projections.keySet().removeIf(key -> key.fingerprint() == fingerprint);
+		}
+	}
+
+	/**
+	 * Sets the maximum number of cached projections, evicting the least recently used ones if necessary.
+	 * @param maxSize The maximum number of cached projections, or 0 if projections are not to be cached
+	 */
+	public synchronized void setMaxSize(int maxSize) {
+		if (maxSize < 0) {
+			throw new IllegalArgumentException("The maximum size of a projection cache must not be negative.");
+		}
+
+		this.maxSize = maxSize;
+		Iterator<CacheKey> keys = this.projections.keySet().iterator();
+		while (this.projections.size() > maxSize && keys.hasNext()) {
+			keys.next();
+			keys.remove();
+			this.evictions++;
+		}
+	}
+
+	public synchronized int getMaxSize() {
+		return this.maxSize;
+	}
+
+	public synchronized int size() {
+		return this.projections.size();
+	}
+
+	public synchronized long getHits() {
+		return this.hits;
+	}
+
+	public synchronized long getMisses() {
+		return this.misses;
+	}
+
+	public synchronized long getEvictions() {
+		return this.evictions;
+	}
+
+	public synchronized void clear() {
+		this.projections.clear();
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "ProjectionCache[size=" + this.projections.size() + ", maxSize=" + this.maxSize + ", hits=" + this.hits +
+				", misses=" + this.misses + ", evictions=" + this.evictions + "]";
+	}
+
+	/**
+	 * Computes a fingerprint of the attributes and functional dependencies of the supplied relation that does not
+	 * depend on their iteration order.
+	 * @param rel The relation
+	 * @return The fingerprint
+	 */
+	static long fingerprint(Relation rel) {
+		AttributeUniverse universe = AttributeUniverse.of(rel.getAttributes(), rel.getFunctionalDependencies());
+
+		long fingerprint = 0xcbf29ce484222325L;
+		for (String attribute : universe.getAttributes()) {
+			fingerprint = (fingerprint ^ attribute.hashCode()) * 0x100000001b3L;
+			fingerprint = (fingerprint ^ (rel.getAttributes().contains(attribute) ? 0x52 : 0x46)) * 0x100000001b3L;
+		}
+
+		// Dependencies are mixed individually and summed up, which makes the result independent of their order.
+		long dependencies = 0;
+		for (FunctionalDependency dependency : new HashSet<>(rel.getFunctionalDependencies())) {
+			EncodedDependency encodedDependency = universe.encode(dependency);
+			long mixed = 0x3b;
+			for (long word : encodedDependency.lhs().toWords()) {
+				mixed = mix(mixed ^ word);
+			}
+			for (long word : encodedDependency.rhs().toWords()) {
+				mixed = mix(mixed + word);
+			}
+			dependencies += mix(mixed);
+		}
+
+		return mix(fingerprint ^ dependencies);
+	}
+
+	/**
+	 * The finalizer of SplitMix64.
+	 */
+	private static long mix(long value) {
+		value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+		value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+		return value ^ (value >>> 31);
+	}
+
+	private static List<String> sort(Collection<String> subscheme) {
+		return List.copyOf(new TreeSet<>(subscheme));
+	}
+
+	private static Set<FunctionalDependency> copy(Collection<FunctionalDependency> dependencies) {
+		Set<FunctionalDependency> copies = new HashSet<>();
+		for (FunctionalDependency dependency : dependencies) {
+			copies.add(new FunctionalDependency(dependency.getLhsAttributes(), dependency.getRhsAttributes()));
+		}
+		return copies;
+	}
+
+	/**
+	 * The key of a cached projection.
+	 * @param fingerprint The fingerprint of the base relation
+	 * @param subscheme The sorted attributes of the subscheme
+	 */
+	private record CacheKey(long fingerprint, List<String> subscheme) {
+	}
+}
@@ -1,5 +1,8 @@
 package at.jku.dke.task_app.fanf.evaluation.algorithms;
 
+import at.jku.dke.task_app.fanf.evaluation.model.AttributeSet;
+import at.jku.dke.task_app.fanf.evaluation.model.AttributeUniverse;
+import at.jku.dke.task_app.fanf.evaluation.model.EncodedDependency;
 import at.jku.dke.task_app.fanf.evaluation.model.FunctionalDependency;
 import at.jku.dke.task_app.fanf.evaluation.model.Relation;
 
@@ -109,11 +112,103 @@ public static void main(String[] args){
 
 	/**
 	 * Determines the functional dependencies of the subscheme of a base relation.
+	 * <br><br>
+	 * The dependencies are unfolded and encoded with respect to an {@link AttributeUniverse}. The attributes absent
+	 * from the subscheme are eliminated greedily, always picking the one with the fewest potential resolvents (i.e.,
+	 * the product of its left-hand and right-hand side occurrences). After each elimination, only dependencies that
+	 * are not subsumed by another dependency with the same right-hand side and a subset of its left-hand side are kept.
+	 * <br><br>
+	 * The remaining dependencies may still be redundant, so their {@link CanonicalCover} is returned. It neither
+	 * depends on the elimination order nor on the pruning, so the number of dependencies (e.g., missing ones) only
+	 * depends on the projection itself.
 	 * @param rel The base relation
 	 * @param subscheme The subscheme
-	 * @return The functional dependencies of the subscheme
+	 * @return A minimal cover of the functional dependencies of the subscheme, with dependencies of identical
+	 * left-hand sides folded into one
 	 */
 	public static Set<FunctionalDependency> execute(Relation rel, Collection<String> subscheme) {
+		Set<FunctionalDependency> dependencies = MinimalCover.unfold(rel.getFunctionalDependencies());
+		AttributeUniverse universe = AttributeUniverse.of(rel.getAttributes(), dependencies);
+
+		/*
+		 * Add only those attributes of the base relation that are absent from the subscheme
+		 * (Gerald Wimmer, 2024-01-01).
+		 */
+		AttributeSet attributes = universe.empty();
+		for (String currAttribute : rel.getAttributes()) {
+			if (!subscheme.contains(currAttribute)) {
+				attributes = attributes.with(universe.indexOf(currAttribute));
+			}
+		}
+
+		/*
+		 * As all dependencies are unfolded, they are stored as lists of left-hand sides indexed by their right-hand
+		 * side attribute.
+		 */
+		List<List<AttributeSet>> lhsByRhs = new ArrayList<>(universe.size());
+		for (int i = 0; i < universe.size(); i++) {
+			lhsByRhs.add(new ArrayList<>());
+		}
+		for (FunctionalDependency currDependency : dependencies) {
+			EncodedDependency encodedDependency = universe.encode(currDependency);
+			addUnsubsumed(lhsByRhs.get(encodedDependency.rhs().nextSetBit(0)), encodedDependency.lhs());
+		}
+
+		while (!attributes.isEmpty()) {
+			int currAttribute = selectAttribute(attributes, lhsByRhs);
+			attributes = attributes.without(currAttribute);
+
+			/*
+			 * Resolve every dependency containing currAttribute on its left-hand side with every dependency deriving
+			 * currAttribute, then remove all those functional dependencies which contain currAttribute on their
+			 * left-hand side (i.e., cannot be resolved) or right-hand side (because currAttribute is NOT present in the
+			 * subscheme).
+			 */
+			List<AttributeSet> containingLhs = lhsByRhs.get(currAttribute);
+			for (int rhs = 0; rhs < lhsByRhs.size(); rhs++) {
+				List<AttributeSet> currLhsList = lhsByRhs.get(rhs);
+				if (rhs == currAttribute || currLhsList.isEmpty()) {
+					continue;
+				}
+
+				List<AttributeSet> resolvable = new ArrayList<>();
+				currLhsList.removeIf(lhs -> lhs.contains(currAttribute) && resolvable.add(lhs));
+
+				for (AttributeSet lhs : resolvable) {
+					AttributeSet remainingLhs = lhs.without(currAttribute);
+					for (AttributeSet currContainingLhs : containingLhs) {
+						AttributeSet resolventLhs = remainingLhs.union(currContainingLhs);
+						if (!resolventLhs.contains(rhs)) {
+							addUnsubsumed(currLhsList, resolventLhs);
+						}
+					}
+				}
+			}
+			containingLhs.clear();
+		}
+
+		Set<FunctionalDependency> result = new HashSet<>();
+		for (int rhs = 0; rhs < lhsByRhs.size(); rhs++) {
+			for (AttributeSet lhs : lhsByRhs.get(rhs)) {
+				result.add(universe.decode(new EncodedDependency(lhs, universe.empty().with(rhs))));
+			}
+		}
+
+		return CanonicalCover.execute(result);
+	}
+
+	/**
+	 * Determines the functional dependencies of the subscheme of a base relation by eliminating the absent attributes
+	 * in the order of the base relation, keeping all non-trivial resolvents, as reduction by resolution did before
+	 * subsumed resolvents were pruned. Unless the canonical cover is enabled (see
+	 * {@link Projection#setCanonicalCover(boolean)}), normalizations are still graded against these dependencies, so
+	 * that their scores do not change.
+	 * @param rel The base relation
+	 * @param subscheme The subscheme
+	 * @return The functional dependencies of the subscheme, with dependencies of identical left-hand sides folded into
+	 * one
+	 */
+	public static Set<FunctionalDependency> executeUnpruned(Relation rel, Collection<String> subscheme) {
 		List<String> attributes = new LinkedList<>();
 
 		/*
@@ -136,12 +231,58 @@ public static Set<FunctionalDependency> execute(Relation rel, Collection<String>
 			 * Remove all those functional dependencies which contain currAttribute on their left-hand side
 			 * (i.e., cannot be resolved) or right-hand side (because currAttribute is NOT present in the subscheme).
 			 */
-            result.removeIf(currFD -> (currFD.getLhsAttributes().contains(currAttribute)) || (currFD.getRhsAttributes().contains(currAttribute)));
+			result.removeIf(currFD -> (currFD.getLhsAttributes().contains(currAttribute)) || (currFD.getRhsAttributes().contains(currAttribute)));
 		}
 
 		return MinimalCover.fold(result);
 	}
 
+	/**
+	 * Selects the attribute to be eliminated next, i.e., the one for which the fewest resolvents can be formed.
+	 * Ties are broken in favour of the attribute with the lowest index.
+	 * @param attributes The attributes still to be eliminated
+	 * @param lhsByRhs The left-hand sides of the current dependencies, indexed by their right-hand side attribute
+	 * @return The index of the attribute to be eliminated next
+	 */
+	private static int selectAttribute(AttributeSet attributes, List<List<AttributeSet>> lhsByRhs) {
+		long[] lhsOccurrences = new long[lhsByRhs.size()];
+		for (List<AttributeSet> currLhsList : lhsByRhs) {
+			for (AttributeSet lhs : currLhsList) {
+				AttributeSet occurring = lhs.intersection(attributes);
+				for (int i = occurring.nextSetBit(0); i >= 0; i = occurring.nextSetBit(i + 1)) {
+					lhsOccurrences[i]++;
+				}
+			}
+		}
+
+		int selected = -1;
+		long fewestResolvents = Long.MAX_VALUE;
+		for (int i = attributes.nextSetBit(0); i >= 0; i = attributes.nextSetBit(i + 1)) {
+			long resolvents = lhsOccurrences[i] * lhsByRhs.get(i).size();
+			if (resolvents < fewestResolvents) {
+				selected = i;
+				fewestResolvents = resolvents;
+			}
+		}
+		return selected;
+	}
+
+	/**
+	 * Adds the supplied left-hand side to a list of left-hand sides sharing the same right-hand side, unless the list
+	 * already contains a subset of it. Any supersets of it are removed from the list.
+	 * @param lhsList The left-hand sides of the dependencies with the same right-hand side
+	 * @param lhs The left-hand side to be added
+	 */
+	private static void addUnsubsumed(List<AttributeSet> lhsList, AttributeSet lhs) {
+		for (AttributeSet currLhs : lhsList) {
+			if (lhs.containsAll(currLhs)) {
+				return;
+			}
+		}
+		lhsList.removeIf(currLhs -> currLhs.containsAll(lhs));
+		lhsList.add(lhs);
+	}
+
 	/**
 	 * Determines the resolvents for an attribute given a <code>Collection</code> of functional dependencies.
 	 * @param a The attribute whose resolvents are to be determined
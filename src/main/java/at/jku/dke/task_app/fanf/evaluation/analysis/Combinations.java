@@ -0,0 +1,203 @@
+package at.jku.dke.task_app.fanf.evaluation.analysis;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Enumerates the subsets of <code>{0, ..., n - 1}</code> as bitmasks without allocating anything per step.
+ * <br><br>
+ * Sets of up to 64 elements are represented as a single <code>long</code> and enumerated with Gosper's hack, larger
+ * sets as reused <code>long[]</code> words, bit <code>i</code> of word <code>w</code> representing element
+ * <code>64 * w + i</code>. The <code>k</code>-subsets are enumerated in ascending order of their masks.
+ */
+public final class Combinations {
+
+	private Combinations() {
+		// This class is not meant to be instantiated.
+	}
+
+	/**
+	 * Performs the supplied action for every <code>k</code>-subset of <code>n</code> elements.
+	 * @param n The number of elements, at most 64
+	 * @param k The size of the subsets
+	 * @param action The action, receiving the mask of each subset
+	 * @throws IllegalArgumentException If <code>n</code> exceeds 64 or <code>k</code> is out of range
+	 */
+	public static void forEach(int n, int k, LongConsumer action) {
+		checkArguments(n, k);
+		if (n > 64) {
+			throw new IllegalArgumentException("Masks of type long only support up to 64 elements.");
+		}
+
+		long mask = first(k);
+		do {
+			action.accept(mask);
+			mask = next(mask, n);
+		} while (mask != 0);
+	}
+
+	/**
+	 * Performs the supplied action for every <code>k</code>-subset of <code>n</code> elements, for any number of
+	 * elements.
+	 * @param n The number of elements
+	 * @param k The size of the subsets
+	 * @param action The action, receiving the words of each subset. The array is reused for the next subset and must
+	 *                  neither be modified nor retained.
+	 * @throws IllegalArgumentException If <code>k</code> is out of range
+	 */
+	public static void forEachWords(int n, int k, Consumer<long[]> action) {
+		Cursor cursor = new Cursor(n, k);
+		do {
+			action.accept(cursor.words());
+		} while (cursor.advance());
+	}
+
+	/**
+	 * Performs the supplied action for every subset of <code>n</code> elements, including the empty set, in ascending
+	 * order of their masks.
+	 * @param n The number of elements, at most 63
+	 * @param action The action, receiving the mask of each subset
+	 * @throws IllegalArgumentException If <code>n</code> exceeds 63
+	 */
+	public static void forEachSubset(int n, LongConsumer action) {
+		if (n < 0 || n > 63) {
+			throw new IllegalArgumentException("All subsets can only be enumerated for up to 63 elements.");
+		}
+
+		long end = 1L << n;
+		for (long mask = 0; mask < end; mask++) {
+			action.accept(mask);
+		}
+	}
+
+	/**
+	 * Returns the smallest mask with <code>k</code> bits set.
+	 * @param k The number of bits, at most 64
+	 * @return The first <code>k</code>-subset
+	 */
+	public static long first(int k) {
+		return k == 64 ? -1L : (1L << k) - 1;
+	}
+
+	/**
+	 * Returns the next larger mask with the same number of bits set as the supplied mask (Gosper's hack).
+	 * @param mask The current mask, which must not be empty
+	 * @param n The number of elements, at most 64
+	 * @return The next mask, or 0 if the supplied mask was the last one within <code>n</code> elements
+	 */
+	public static long next(long mask, int n) {
+		if (mask == 0) {
+			return 0;
+		}
+
+		long lowest = mask & -mask;
+		long ripple = mask + lowest;
+		if (ripple == 0) {
+			// The highest bits up to bit 63 were set, so there is no larger mask
+			return 0;
+		}
+
+		long next = (((ripple ^ mask) >>> 2) / lowest) | ripple;
+		return n < 64 && (next >>> n) != 0 ? 0 : next;
+	}
+
+	private static void checkArguments(int n, int k) {
+		if (n < 0 || k < 0 || k > n) {
+			throw new IllegalArgumentException("Cannot enumerate subsets of size " + k + " of " + n + " elements.");
+		}
+	}
+
+	/**
+	 * A resumable enumeration of the <code>k</code>-subsets of <code>n</code> elements. The cursor is positioned on the
+	 * first subset on construction. Sets of up to 64 elements are advanced with Gosper's hack, larger sets by the
+	 * lexicographic successor of the sorted element indices.
+	 */
+	public static final class Cursor {
+
+		private final int n;
+		private final int k;
+		private final long[] words;
+		private final int[] indices;
+
+		/**
+		 * Creates a new <code>Cursor</code> positioned on the first <code>k</code>-subset.
+		 * @param n The number of elements
+		 * @param k The size of the subsets
+		 * @throws IllegalArgumentException If <code>k</code> is out of range
+		 */
+		public Cursor(int n, int k) {
+			checkArguments(n, k);
+			this.n = n;
+			this.k = k;
+			this.words = new long[Math.max(1, (n + 63) >>> 6)];
+			this.indices = n > 64 ? new int[k] : null;
+
+			if (this.indices == null) {
+				this.words[0] = first(k);
+			} else {
+				for (int i = 0; i < k; i++) {
+					this.indices[i] = i;
+					this.words[i >>> 6] |= 1L << i;
+				}
+			}
+		}
+
+		/**
+		 * Advances to the next subset.
+		 * @return Whether there was a next subset; if not, the cursor remains on the last subset
+		 */
+		public boolean advance() {
+			if (this.indices == null) {
+				long next = next(this.words[0], this.n);
+				if (next == 0) {
+					return false;
+				}
+				this.words[0] = next;
+				return true;
+			}
+
+			int i = this.k - 1;
+			while (i >= 0 && this.indices[i] == this.n - this.k + i) {
+				i--;
+			}
+			if (i < 0) {
+				return false;
+			}
+
+			for (int j = i; j < this.k; j++) {
+				this.words[this.indices[j] >>> 6] &= ~(1L << this.indices[j]);
+			}
+			this.indices[i]++;
+			for (int j = i + 1; j < this.k; j++) {
+				this.indices[j] = this.indices[i] + j - i;
+			}
+			for (int j = i; j < this.k; j++) {
+				this.words[this.indices[j] >>> 6] |= 1L << this.indices[j];
+			}
+			return true;
+		}
+
+		/**
+		 * Returns the mask of the current subset.
+		 * @return The first word of the current subset, which is the whole subset for up to 64 elements
+		 */
+		public long mask() {
+			return this.words[0];
+		}
+
+		/**
+		 * Returns the words of the current subset. The array is updated in place when advancing and must not be
+		 * modified.
+		 * @return The words of the current subset
+		 */
+		public long[] words() {
+			return this.words;
+		}
+
+		@Override
+		public String toString() {
+			return "Cursor[n=" + this.n + ", k=" + this.k + ", words=" + Arrays.toString(this.words) + "]";
+		}
+	}
+}
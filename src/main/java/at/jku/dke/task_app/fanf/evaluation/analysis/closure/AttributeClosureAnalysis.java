@@ -3,8 +3,8 @@
 
 
 import at.jku.dke.task_app.fanf.evaluation.analysis.NFAnalysis;
+import at.jku.dke.task_app.fanf.evaluation.model.AttributeCollator;
 
-import java.text.Collator;
 import java.util.Collection;
 import java.util.Set;
 import java.util.TreeSet;
@@ -16,8 +16,8 @@ public class AttributeClosureAnalysis extends NFAnalysis {
 
 	public AttributeClosureAnalysis() {
 		super();
-		this.missingAttributes = new TreeSet<>(Collator.getInstance());
-		this.additionalAttributes = new TreeSet<>(Collator.getInstance());
+		this.missingAttributes = new TreeSet<>(new AttributeCollator());
+		this.additionalAttributes = new TreeSet<>(new AttributeCollator());
 	}
 
 	public void addMissingAttribute(String attribute){
@@ -30,7 +30,7 @@ public void setMissingAttributes(Collection<String> attributes){
 	}
 
 	public Set<String> getMissingAttributes() {
-		TreeSet<String> ret = new TreeSet<>(Collator.getInstance());
+		TreeSet<String> ret = new TreeSet<>(new AttributeCollator());
 		ret.addAll(this.missingAttributes);
 
 		return ret;
@@ -50,7 +50,7 @@ public void setAdditionalAttributes(Collection<String> attributes){
 	}
 
 	public Set<String> getAdditionalAttributes() {
-		TreeSet<String> ret = new TreeSet<>(Collator.getInstance());
+		TreeSet<String> ret = new TreeSet<>(new AttributeCollator());
 		ret.addAll(this.additionalAttributes);
 
 		return ret;
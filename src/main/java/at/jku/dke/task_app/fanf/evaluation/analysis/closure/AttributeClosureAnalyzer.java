@@ -26,9 +26,17 @@ public class AttributeClosureAnalyzer {
      * @return The analysis result
      */
 	public static NFAnalysis analyze(Collection<FunctionalDependency> dependencies, Collection<String> baseAttributes, Collection<String> submittedAttributes){
-        List<CriterionDto> criteria = new ArrayList<>();
+		return analyze(Closure.execute(baseAttributes, dependencies), submittedAttributes);
+	}
+
+    /**
+     * Analyzes the submitted attributes with respect to the precomputed closure of the base attributes.
+     * @param correctAttributes The closure of the base attributes
+     * @param submittedAttributes The submitted attributes
+     * @return The analysis result
+     */
+	public static NFAnalysis analyze(Collection<String> correctAttributes, Collection<String> submittedAttributes){
         AttributeClosureAnalysis analysis = new AttributeClosureAnalysis();
-		Collection<String> correctAttributes = Closure.execute(baseAttributes, dependencies);
 
 		analysis.setSubmissionSuitsSolution(true);
 
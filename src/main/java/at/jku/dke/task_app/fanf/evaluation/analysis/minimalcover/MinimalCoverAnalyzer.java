@@ -3,10 +3,13 @@
 
 
 
+import at.jku.dke.task_app.fanf.evaluation.algorithms.CompiledDependencySet;
 import at.jku.dke.task_app.fanf.evaluation.algorithms.Cover;
-import at.jku.dke.task_app.fanf.evaluation.algorithms.Member;
 import at.jku.dke.task_app.fanf.evaluation.algorithms.MinimalCover;
 import at.jku.dke.task_app.fanf.evaluation.analysis.keys.KeysAnalyzer;
+import at.jku.dke.task_app.fanf.evaluation.model.AttributeSet;
+import at.jku.dke.task_app.fanf.evaluation.model.AttributeUniverse;
+import at.jku.dke.task_app.fanf.evaluation.model.EncodedDependency;
 import at.jku.dke.task_app.fanf.evaluation.model.FunctionalDependency;
 import at.jku.dke.task_app.fanf.evaluation.model.Relation;
 import org.slf4j.Logger;
@@ -23,11 +26,23 @@ private MinimalCoverAnalyzer() {
 	}
 
     public static MinimalCoverAnalysis analyze(Relation relation, Relation specification){
+		return analyze(relation, MinimalCover.execute(specification.getFunctionalDependencies()));
+	}
+
+	/**
+	 * Analyzes the functional dependencies of the submitted relation with respect to a precomputed minimal cover of the
+	 * functional dependencies of the specification.
+	 * @param relation The submitted relation
+	 * @param correctDependencies A minimal cover of the functional dependencies of the specification
+	 * @return A <code>MinimalCoverAnalysis</code> of the submitted functional dependencies
+	 */
+	public static MinimalCoverAnalysis analyze(Relation relation, Set<FunctionalDependency> correctDependencies){
 		//INIT LOCAL VARIABLES
 		MinimalCoverAnalysis analysis = new MinimalCoverAnalysis();
 		analysis.setSubmissionSuitsSolution(true);
 
 		Set<FunctionalDependency> submittedDependencies = relation.getFunctionalDependencies();
+		CompiledDependencySet compiledSubmittedDependencies = new CompiledDependencySet(submittedDependencies);
 
 		//ANALYZE CANONICAL REPRESENTATION OF SUBMITTED DEPENDENCIES
 		CanonicalRepresentationAnalysis canonicalRepresentationAnalysis = analyzeCanonicalRepresentation(submittedDependencies);
@@ -46,7 +61,7 @@ public static MinimalCoverAnalysis analyze(Relation relation, Relation specifica
 		}
 
 		//ANALYZE EXTRANEOUS ATTRIBUTES
-		ExtraneousAttributesAnalysis extraneousAttributesAnalysis = analyzeExtraneousAttributes(submittedDependencies);
+		ExtraneousAttributesAnalysis extraneousAttributesAnalysis = analyzeExtraneousAttributes(submittedDependencies, compiledSubmittedDependencies);
 		analysis.setExtraneousAttributesAnalysis(extraneousAttributesAnalysis);
 		if (!extraneousAttributesAnalysis.submissionSuitsSolution()){
 			analysis.setSubmissionSuitsSolution(false);
@@ -58,7 +73,7 @@ public static MinimalCoverAnalysis analyze(Relation relation, Relation specifica
 		Set<FunctionalDependency> nonTrivialDeps = new HashSet<>(submittedDependencies);
 		nonTrivialDeps.removeAll(trivialDependenciesAnalysis.getTrivialDependencies());
 
-		RedundantDependenciesAnalysis redundantDependenciesAnalysis = analyzeRedundantDependencies(nonTrivialDeps);
+		RedundantDependenciesAnalysis redundantDependenciesAnalysis = analyzeRedundantDependencies(nonTrivialDeps, compiledSubmittedDependencies);
 		analysis.setRedundantDependenciesAnalysis(redundantDependenciesAnalysis);
 		if (!redundantDependenciesAnalysis.submissionSuitsSolution()){
 			analysis.setSubmissionSuitsSolution(false);
@@ -66,8 +81,6 @@ public static MinimalCoverAnalysis analyze(Relation relation, Relation specifica
 		}
 
 		//ANALYZE DEPENDENCIES COVER
-		Set<FunctionalDependency> correctDependencies = MinimalCover.execute(specification.getFunctionalDependencies());
-
 		DependenciesCoverAnalysis dependenciesCoverAnalysis = analyzeDependenciesCover(submittedDependencies, correctDependencies);
 		analysis.setDependenciesCoverAnalysis(dependenciesCoverAnalysis);
 		if (!dependenciesCoverAnalysis.submissionSuitsSolution()){
@@ -88,9 +101,12 @@ public static DependenciesCoverAnalysis analyzeDependenciesCover(Collection<Func
 		DependenciesCoverAnalysis analysis = new DependenciesCoverAnalysis();
 		analysis.setSubmissionSuitsSolution(true);
 
+		CompiledDependencySet compiledCorrectDependencies = new CompiledDependencySet(correctDependencies);
+		CompiledDependencySet compiledSubmittedDependencies = new CompiledDependencySet(submittedDependencies);
+
 		// Test whether any of the submittedDependencies is extraneous
 		for (FunctionalDependency currDependency : submittedDependencies) {
-			if (!Member.execute(currDependency, correctDependencies)){
+			if (!compiledCorrectDependencies.implies(currDependency)){
 				analysis.addAdditionalDependency(currDependency);
 				analysis.setSubmissionSuitsSolution(false);
 				LOG.info("Found additional functional dependency.");
@@ -99,7 +115,7 @@ public static DependenciesCoverAnalysis analyzeDependenciesCover(Collection<Func
 
 		// Test whether any functional dependencies are missing from the submittedDependencies
 		for (FunctionalDependency currDependency : correctDependencies){
-			if (!Member.execute(currDependency, submittedDependencies)){
+			if (!compiledSubmittedDependencies.implies(currDependency)){
 				analysis.addMissingDependency(currDependency);
 				analysis.setSubmissionSuitsSolution(false);
 				LOG.info( "Found missing functional dependency.");
@@ -116,6 +132,61 @@ public static DependenciesCoverAnalysis analyzeDependenciesCover(Collection<Func
 	 * @return A <code>RedundantDependenciesAnalysis</code> of the passed functional dependencies
 	 */
 	public static RedundantDependenciesAnalysis analyzeRedundantDependencies(Collection<FunctionalDependency> dependencies){
+		return analyzeRedundantDependencies(dependencies, new CompiledDependencySet(dependencies));
+	}
+
+	/**
+	 * Tests which of the passed functional dependencies are redundant (i.e., the <code>Collection</code> of
+	 * dependencies would remain semantically identical without it), using a <code>CompiledDependencySet</code> that
+	 * may be shared with other analyses of the same submission. Dependencies of the compiled set that are not part of
+	 * <code>dependencies</code> are ignored.
+	 * @param dependencies The <code>Collection</code> of <code>FunctionalDependency</code> objects to be tested
+	 * @param compiledDependencies A compiled set containing (at least) all of <code>dependencies</code>
+	 * @return A <code>RedundantDependenciesAnalysis</code> of the passed functional dependencies
+	 * @throws IllegalArgumentException If any of <code>dependencies</code> is not part of the compiled set
+	 */
+	public static RedundantDependenciesAnalysis analyzeRedundantDependencies(Collection<FunctionalDependency> dependencies, CompiledDependencySet compiledDependencies){
+		FunctionalDependency[] dependencyArray = dependencies.toArray(new FunctionalDependency[0]);
+		if (new HashSet<>(dependencies).size() < dependencyArray.length) {
+			return analyzeRedundantDependenciesByCover(dependencies);
+		}
+
+		RedundantDependenciesAnalysis analysis = new RedundantDependenciesAnalysis();
+		analysis.setSubmissionSuitsSolution(true);
+
+		List<EncodedDependency> encodedDependencies = compiledDependencies.getDependencies();
+		boolean[] excluded = new boolean[encodedDependencies.size()];
+		int[] positions = locateDependencies(dependencyArray, compiledDependencies, encodedDependencies, excluded);
+
+		for (int i = 0; i < dependencyArray.length; i++) {
+			/*
+			 * Mask currDependency in addition to the previously found redundant dependencies, which stay masked.
+			 * As the dependencies left unmasked always imply the masked ones, currDependency is redundant iff they
+			 * imply it.
+			 */
+			EncodedDependency currDependency = encodedDependencies.get(positions[i]);
+			excluded[positions[i]] = true;
+
+			if (compiledDependencies.closure(currDependency.lhs(), excluded).containsAll(currDependency.rhs())) {
+				LOG.info("Found redundant functional dependency.");
+				analysis.addRedundantDependency(dependencyArray[i]);
+				analysis.setSubmissionSuitsSolution(false);
+			} else {
+				excluded[positions[i]] = false;
+			}
+		}
+
+		return analysis;
+	}
+
+	/**
+	 * Tests which of the passed functional dependencies are redundant by comparing the covers of copies of the
+	 * dependencies. Used for collections containing duplicates, all of which are removed from a copy at once once
+	 * one of them has been found to be redundant.
+	 * @param dependencies The <code>Collection</code> of <code>FunctionalDependency</code> objects to be tested
+	 * @return A <code>RedundantDependenciesAnalysis</code> of the passed functional dependencies
+	 */
+	private static RedundantDependenciesAnalysis analyzeRedundantDependenciesByCover(Collection<FunctionalDependency> dependencies){
 		RedundantDependenciesAnalysis analysis = new RedundantDependenciesAnalysis();
 		analysis.setSubmissionSuitsSolution(true);
 
@@ -149,44 +220,50 @@ public static RedundantDependenciesAnalysis analyzeRedundantDependencies(Collect
 	 * @return An <code>ExtraneousAttributesAnalysis</code> of the passed functional dependencies
 	 */
 	public static ExtraneousAttributesAnalysis analyzeExtraneousAttributes(Collection<FunctionalDependency> dependencies) {
+		return analyzeExtraneousAttributes(dependencies, new CompiledDependencySet(dependencies));
+	}
+
+	/**
+	 * Tests which of the passed functional dependencies are not minimal (i.e., the left-hand side contains
+	 * extraneous attributes), using a <code>CompiledDependencySet</code> that may be shared with other analyses of
+	 * the same submission. Dependencies of the compiled set that are not part of <code>dependencies</code> are
+	 * ignored.
+	 * @param dependencies The <code>Collection</code> of <code>FunctionalDependency</code> objects to be tested
+	 * @param compiledDependencies A compiled set containing (at least) all of <code>dependencies</code>
+	 * @return An <code>ExtraneousAttributesAnalysis</code> of the passed functional dependencies
+	 * @throws IllegalArgumentException If any of <code>dependencies</code> is not part of the compiled set
+	 */
+	public static ExtraneousAttributesAnalysis analyzeExtraneousAttributes(Collection<FunctionalDependency> dependencies, CompiledDependencySet compiledDependencies) {
 		ExtraneousAttributesAnalysis analysis = new ExtraneousAttributesAnalysis();
 		analysis.setSubmissionSuitsSolution(true);
 
-		for (FunctionalDependency currDependency : dependencies) {
-			for (String currAttribute : currDependency.getLhsAttributes()) {
-				/*
-				 * Create a copy of the currDependency with all attributes except currAttribute
-				 * (Gerald Wimmer, 2023-12-31).
-				 */
-				FunctionalDependency tempDependency = new FunctionalDependency();
-				tempDependency.setLhsAttributes(currDependency.getLhsAttributes());
-				tempDependency.setRhsAttributes(currDependency.getRhsAttributes());
-				tempDependency.removeLhsAttribute(currAttribute);
+		FunctionalDependency[] dependencyArray = dependencies.toArray(new FunctionalDependency[0]);
+		boolean[] excluded = new boolean[compiledDependencies.size()];
+		locateDependencies(dependencyArray, compiledDependencies, compiledDependencies.getDependencies(), excluded);
 
-				/*
-				 * If we've already detected other extraneous attributes for currDependency, remove those from the LHS
-				 * as well (Gerald Wimmer, 2023-12-31).
-				 */
-				if (analysis.getExtraneousAttributes().containsKey(currDependency)) {
-					tempDependency.removeLhsAttributes(analysis.getExtraneousAttributes().get(currDependency));
-				}
+		AttributeUniverse universe = compiledDependencies.getUniverse();
+		Map<FunctionalDependency, AttributeSet> extraneousAttributes = new HashMap<>();
 
-				/*
-				 * Create a copy of our set of dependencies which contains the tempDependency WITHOUT currAttribute in
-				 * place of the old currDependency WITH curAttribute (Gerald Wimmer, 2023-12-31).
-				 */
-				List<FunctionalDependency> tempDependencies = new LinkedList<>(dependencies);
-				tempDependencies.remove(currDependency);
-				tempDependencies.add(tempDependency);
+		for (FunctionalDependency currDependency : dependencyArray) {
+			AttributeSet lhs = universe.encode(currDependency.getLhsAttributes());
+			AttributeSet rhs = universe.encode(currDependency.getRhsAttributes());
 
+			for (String currAttribute : currDependency.getLhsAttributes()) {
 				/*
-				 * Check whether the collection of dependencies would remain semantically identical without
-				 * currAttribute (i.e., whether currAttribute is extraneous in currDependency)
-				 * (Gerald Wimmer, 2023-12-31).
+				 * Remove currAttribute and any previously detected extraneous attributes of currDependency from the
+				 * LHS. Replacing currDependency by the reduced dependency leaves the collection of dependencies
+				 * semantically identical (i.e., currAttribute is extraneous) iff the RHS is contained in the closure
+				 * of the reduced LHS.
 				 */
-				if (Cover.execute(dependencies, tempDependencies)) {
+				AttributeSet reducedLhs = lhs.without(universe.indexOf(currAttribute));
+				if (extraneousAttributes.containsKey(currDependency)) {
+					reducedLhs = reducedLhs.minus(extraneousAttributes.get(currDependency));
+				}
+
+				if (compiledDependencies.closure(reducedLhs, excluded).containsAll(rhs)) {
 					analysis.setSubmissionSuitsSolution(false);
 					analysis.addExtraneousAttribute(currDependency, currAttribute);
+					extraneousAttributes.merge(currDependency, universe.empty().with(universe.indexOf(currAttribute)), AttributeSet::union);
 					LOG.info( "Found extraneous attributes.");
 				}
 			}
@@ -195,6 +272,35 @@ public static ExtraneousAttributesAnalysis analyzeExtraneousAttributes(Collectio
 		return analysis;
 	}
 
+	/**
+	 * Determines the position of each of the passed functional dependencies within the compiled set and flags the
+	 * positions of all other dependencies of the compiled set as excluded.
+	 * @param dependencies The functional dependencies to be located
+	 * @param compiledDependencies The compiled set
+	 * @param encodedDependencies The encoded dependencies of the compiled set
+	 * @param excluded The flags to be set, indexed by position within the compiled set
+	 * @return The position of each of the passed functional dependencies within the compiled set
+	 * @throws IllegalArgumentException If any of the functional dependencies is not part of the compiled set
+	 */
+	private static int[] locateDependencies(FunctionalDependency[] dependencies, CompiledDependencySet compiledDependencies, List<EncodedDependency> encodedDependencies, boolean[] excluded) {
+		Map<EncodedDependency, Integer> compiledPositions = new HashMap<>();
+		for (int i = encodedDependencies.size() - 1; i >= 0; i--) {
+			compiledPositions.put(encodedDependencies.get(i), i);
+		}
+
+		Arrays.fill(excluded, true);
+		int[] positions = new int[dependencies.length];
+		for (int i = 0; i < dependencies.length; i++) {
+			Integer position = compiledPositions.get(compiledDependencies.getUniverse().encode(dependencies[i]));
+			if (position == null) {
+				throw new IllegalArgumentException("Functional dependency " + dependencies[i] + " is not part of the compiled dependency set.");
+			}
+			positions[i] = position;
+			excluded[position] = false;
+		}
+		return positions;
+	}
+
 	/**
 	 * Tests which of the passed functional dependencies is trivial (i.e., either side is empty or the left-hand
 	 * side contains the right-hand side).
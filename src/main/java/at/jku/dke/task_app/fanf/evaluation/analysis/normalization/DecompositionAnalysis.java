@@ -1,7 +1,7 @@
 package at.jku.dke.task_app.fanf.evaluation.analysis.normalization;
 
 import at.jku.dke.task_app.fanf.evaluation.analysis.NFAnalysis;
-import java.text.Collator;
+import at.jku.dke.task_app.fanf.evaluation.model.AttributeCollator;
 import java.util.Collection;
 import java.util.Set;
 import java.util.TreeSet;
@@ -12,7 +12,7 @@ public class DecompositionAnalysis extends NFAnalysis {
 
 	public DecompositionAnalysis() {
 		super();
-		this.missingAttributes = new TreeSet<>(Collator.getInstance());
+		this.missingAttributes = new TreeSet<>(new AttributeCollator());
 	}
 
 	public void addMissingAttribute(String attribute){
@@ -25,7 +25,7 @@ public void setMissingAttributes(Collection<String> attributes){
 	}
 
 	public Set<String> getMissingAttributes() {
-		TreeSet<String> ret = new TreeSet<>(Collator.getInstance());
+		TreeSet<String> ret = new TreeSet<>(new AttributeCollator());
 		ret.addAll(missingAttributes);
 		return ret;
 	}
@@ -2,15 +2,31 @@
 
 
 
-import at.jku.dke.task_app.fanf.evaluation.algorithms.Closure;
-import at.jku.dke.task_app.fanf.evaluation.analysis.CombinationGenerator;
+import at.jku.dke.task_app.fanf.evaluation.algorithms.CompiledDependencySet;
+import at.jku.dke.task_app.fanf.evaluation.analysis.Combinations;
 import at.jku.dke.task_app.fanf.evaluation.exercises.TupleSet;
 import at.jku.dke.task_app.fanf.evaluation.model.*;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class KeysDeterminator {
 
+	/**
+	 * The maximum number of attribute closures memoized per relation during a key search.
+	 */
+	private static final int CLOSURE_CACHE_SIZE = 1 << 14;
+
+	private static volatile int parallelThreshold = 16;
+	private static volatile ForkJoinPool pool = ForkJoinPool.commonPool();
+
 	public static TupleSet determineMinimalKeys(TupleSet tuples){
 		TupleSet keys = new TupleSet();
 		List<int[]> keyCandidates = calculateKeyCandidates(tuples.get(0).length);
@@ -43,17 +59,15 @@ public static List<int[]> calculateKeyCandidates(int valueNumber){
 
 		//CALCULATE KEY CANDIDATES
 		for (int i = 1; i <= keyAttributePositions.length; i++) {
-			CombinationGenerator generator = new CombinationGenerator(keyAttributePositions.length, i);
-
-			while (generator.hasMore()) {
-				int[] indices = generator.getNext();
-
-				int [] keyCandidate = new int[indices.length];
-				for (int j = 0; j < indices.length; j++) {
-					keyCandidate[j] = keyAttributePositions[indices[j]];
+			int size = i;
+			Combinations.forEach(keyAttributePositions.length, size, mask -> {
+				int[] keyCandidate = new int[size];
+				int j = 0;
+				for (long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+					keyCandidate[j++] = keyAttributePositions[Long.numberOfTrailingZeros(remaining)];
 				}
 				keyCandidates.add(keyCandidate);
-			}
+			});
 		}
 
 		return keyCandidates;
@@ -102,83 +116,425 @@ public static KeysContainer determineAllKeys(Relation relation){
 
 	private static void determineMinimalKeys(Relation relation, KeysContainer container){
 		TreeSet<Key> keys = new TreeSet<>(new KeyComparator());
-		TreeSet<Key> superKeys = determineSuperKeys(relation);
-
-        for (Key superKey : superKeys) {
-            if (isMinimalKey(superKey, relation)) {
-                keys.add(superKey);
-            }
-        }
+		KeySearch search = prepareKeySearch(relation);
+
+		if (search.parallel()) {
+			Collection<AttributeSet> encodedKeys = search.lucchesiOsborn() ?
+					enumerateMinimalKeysInParallel(search.dependencies(), search.classification()) :
+					searchMinimalKeysInParallel(search.dependencies(), search.classification());
+			for (AttributeSet key : encodedKeys) {
+				if (isReportedKey(key, search.classification())) {
+					keys.add(search.dependencies().getUniverse().decodeKey(key));
+				}
+			}
+		} else {
+			new MinimalKeyIterator(search).forEachRemaining(key -> keys.add(search.dependencies().getUniverse().decodeKey(key)));
+		}
 
 		container.setMinimalKeys(keys);
-		container.setSuperKeys(superKeys);
+		container.setAttributeClassification(search.classification());
 	}
 
-	public static Set<Key> determineMinimalKeys(Relation relation){
-		KeysContainer container = new KeysContainer();
-		determineMinimalKeys(relation, container);
+	/**
+	 * Returns a lazy, sequential <code>Stream</code> of the minimal keys of the supplied relation in the order in which
+	 * they are discovered. Keys are only searched for as far as the stream is consumed, so short-circuiting operations
+	 * like <code>limit</code>, <code>anyMatch</code> or <code>findFirst</code> end the search early.
+	 * @param relation The relation
+	 * @return A <code>Stream</code> of the minimal keys of the relation
+	 */
+	public static Stream<Key> streamMinimalKeys(Relation relation) {
+		KeySearch search = prepareKeySearch(relation);
+		Iterator<AttributeSet> iterator = new MinimalKeyIterator(search);
 
-		return container.getMinimalKeys();
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.DISTINCT | Spliterator.NONNULL), false)
+				.map(key -> search.dependencies().getUniverse().decodeKey(key));
 	}
 
-	public static TreeSet<Key> determinePartialKeys(Collection<Key> minimalKeys) {
-		TreeSet<Key> partialKeys = new TreeSet<>(new KeyComparator());
+	/**
+	 * Determines at most <code>limit</code> minimal keys of the supplied relation. Which keys are returned if the
+	 * relation has more keys than that is unspecified.
+	 * @param relation The relation
+	 * @param limit The maximum number of keys to be determined
+	 * @return A sorted <code>Set</code> of at most <code>limit</code> minimal keys
+	 */
+	public static Set<Key> determineMinimalKeys(Relation relation, int limit) {
+		return streamMinimalKeys(relation).limit(limit).collect(Collectors.toCollection(() -> new TreeSet<>(new KeyComparator())));
+	}
 
-        for (Key currKey : minimalKeys) {
-            for (int i = 1; i <= currKey.getAttributes().size(); i++) {
-                CombinationGenerator generator = new CombinationGenerator(currKey.getAttributes().size(), i);
+	/**
+	 * Tests whether the supplied relation has more than <code>n</code> minimal keys, searching for no more than
+	 * <code>n + 1</code> keys.
+	 * @param relation The relation
+	 * @param n The number of keys
+	 * @return Whether the relation has more than <code>n</code> minimal keys
+	 */
+	public static boolean hasMoreKeysThan(Relation relation, int n) {
+		return streamMinimalKeys(relation).skip(n).findAny().isPresent();
+	}
 
-                while (generator.hasMore()) {
-                    int[] indices = generator.getNext();
-                    Key partialKey = new Key();
-                    if (indices.length != currKey.getAttributes().size()) {
-                        for (int index : indices) {
-                            partialKey.addAttribute((String) currKey.getAttributes().toArray()[index]);
-                        }
-                    }
-                    if (!partialKey.getAttributes().isEmpty()) {
-                        partialKeys.add(partialKey);
-                    }
-                }
-            }
-        }
+	/**
+	 * Configures when and how minimal keys are searched in parallel.
+	 * @param threshold The minimum number of residual attributes (see {@link AttributeClassification}) from which on
+	 *                     keys are searched in parallel
+	 * @param parallelism The number of worker threads, or 0 to use the common <code>ForkJoinPool</code>
+	 */
+	public static synchronized void configureParallelSearch(int threshold, int parallelism) {
+		ForkJoinPool previousPool = pool;
+		parallelThreshold = threshold;
+		pool = parallelism > 0 ? new ForkJoinPool(parallelism) : ForkJoinPool.commonPool();
+		if (previousPool != ForkJoinPool.commonPool()) {
+			previousPool.shutdown();
+		}
+	}
 
-		return partialKeys;
+	/**
+	 * The compiled state of a key search for one relation.
+	 * @param dependencies The compiled functional dependencies of the relation
+	 * @param classification The classification of the relation's attributes
+	 * @param lucchesiOsborn Whether all attributes of the dependencies are part of the relation, allowing for the
+	 *                          enumeration by Lucchesi and Osborn instead of the level-wise search
+	 * @param parallel Whether the residual search space is large enough to be searched in parallel
+	 */
+	private record KeySearch(CompiledDependencySet dependencies, AttributeClassification classification, boolean lucchesiOsborn, boolean parallel) {
+	}
+
+	private static KeySearch prepareKeySearch(Relation relation) {
+		AttributeUniverse universe = AttributeUniverse.of(relation);
+		AttributeSet relationAttributes = universe.encode(relation.getAttributes());
+		AttributeClassification classification = AttributeClassification.classify(relationAttributes, universe.encodeAll(relation.getFunctionalDependencies()));
+
+		// The closure cache would serialize the workers of a parallel search
+		boolean parallel = classification.getResidualSize() >= parallelThreshold;
+		CompiledDependencySet dependencies = new CompiledDependencySet(universe, relation.getFunctionalDependencies(), parallel ? 0 : CLOSURE_CACHE_SIZE);
+
+		return new KeySearch(dependencies, classification, relationAttributes.equals(universe.full()), parallel);
 	}
 
 	/**
-	 * Checks whether there are no attributes that could be removed from the supplied <code>Key</code>.
-	 * @param key The <code>Key</code> to be checked.
-	 * @param relation The <code>Relation</code> containing this <code>Key</code>
-	 * @return Whether there are no attributes that could be removed from the supplied <code>Key</code>
+	 * Like the former super key search, only report keys containing an attribute that occurs in a dependency, or the
+	 * whole relation if there is no such attribute. This only makes a difference for dependencies with an empty
+	 * left-hand side.
 	 */
-	private static boolean isMinimalKey(Key key, Relation relation) {
-		for (int i = 1; i <= key.getAttributes().size(); i++) {
-			CombinationGenerator generator = new CombinationGenerator(key.getAttributes().size(), i);
+	private static boolean isReportedKey(AttributeSet key, AttributeClassification classification) {
+		AttributeSet dependencyAttributes = classification.getDependencyAttributes();
+		return dependencyAttributes.isEmpty() ? key.equals(classification.getRelationAttributes()) : key.intersects(dependencyAttributes);
+	}
 
-			while (generator.hasMore()) {
-				Key candidate = new Key();
+	/**
+	 * Lazily enumerates the minimal keys of a relation in the calling thread, either following Lucchesi and Osborn
+	 * (see {@link #enumerateMinimalKeysInParallel(CompiledDependencySet, AttributeClassification)}) or level by level
+	 * (see {@link #searchMinimalKeysInParallel(CompiledDependencySet, AttributeClassification)}).
+	 */
+	private static class MinimalKeyIterator implements Iterator<AttributeSet> {
+
+		private final CompiledDependencySet dependencies;
+		private final List<EncodedDependency> encodedDependencies;
+		private final AttributeClassification classification;
+		private final boolean lucchesiOsborn;
+		private final int[] residual;
+
+		// All keys found so far, including those that are not reported
+		private final List<AttributeSet> keys = new ArrayList<>();
+		private boolean started;
+		private AttributeSet next;
+
+		// State of the enumeration by Lucchesi and Osborn
+		private int keyIndex;
+		private int dependencyIndex;
+
+		// State of the level-wise search
+		private int level;
+		private Combinations.Cursor cursor;
+		private boolean cursorPending;
+
+		MinimalKeyIterator(KeySearch search) {
+			this.dependencies = search.dependencies();
+			this.encodedDependencies = search.dependencies().getDependencies();
+			this.classification = search.classification();
+			this.lucchesiOsborn = search.lucchesiOsborn();
+			this.residual = search.classification().getResidual().toIndices();
+		}
 
-				int[] indices = generator.getNext();
-				if (indices.length != key.getAttributes().size()) {
-                    for (int index : indices) {
-                        candidate.addAttribute((String) key.getAttributes().toArray()[index]);
-                    }
+		@Override
+		public boolean hasNext() {
+			while (this.next == null) {
+				AttributeSet key = this.lucchesiOsborn ? nextLucchesiOsbornKey() : nextLevelWiseKey();
+				if (key == null) {
+					return false;
+				}
+				this.keys.add(key);
+				if (isReportedKey(key, this.classification)) {
+					this.next = key;
 				}
+			}
+			return true;
+		}
 
-				List<String> attributes = new LinkedList<>(candidate.getAttributes());
+		@Override
+		public AttributeSet next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			AttributeSet key = this.next;
+			this.next = null;
+			return key;
+		}
 
-				Collection<String> closure = Closure.execute(attributes, relation.getFunctionalDependencies());
-				if (closure.containsAll(relation.getAttributes())) {
+		private AttributeSet nextLucchesiOsbornKey() {
+			if (!this.started) {
+				this.started = true;
+				return reduceToMinimalKey(this.classification.getCore().union(this.classification.getResidual()), this.dependencies, this.classification);
+			}
+
+			for (; this.keyIndex < this.keys.size(); this.keyIndex++, this.dependencyIndex = 0) {
+				AttributeSet key = this.keys.get(this.keyIndex);
+				while (this.dependencyIndex < this.encodedDependencies.size()) {
+					EncodedDependency dependency = this.encodedDependencies.get(this.dependencyIndex++);
+					AttributeSet superKey = dependency.lhs().union(key.minus(dependency.rhs()));
+					if (isNewCandidate(superKey)) {
+						return reduceToMinimalKey(superKey, this.dependencies, this.classification);
+					}
+				}
+			}
+			return null;
+		}
+
+		private AttributeSet nextLevelWiseKey() {
+			AttributeSet core = this.classification.getCore();
+			if (!this.started) {
+				this.started = true;
+				if (isSuperKey(core, this.dependencies, this.classification)) {
+					this.level = this.residual.length + 1;
+					return core;
+				}
+				this.level = 0;
+			}
+
+			while (this.level <= this.residual.length) {
+				if (this.cursor != null) {
+					while (this.cursorPending || this.cursor.advance()) {
+						this.cursorPending = false;
+						AttributeSet candidate = toCandidate(core, this.residual, 0, this.cursor.words());
+						if (isNewCandidate(candidate) && isSuperKey(candidate, this.dependencies, this.classification)) {
+							return candidate;
+						}
+					}
+				}
+
+				this.level++;
+				if (this.level <= this.residual.length) {
+					this.cursor = new Combinations.Cursor(this.residual.length, this.level);
+					this.cursorPending = true;
+				}
+			}
+			return null;
+		}
+
+		private boolean isNewCandidate(AttributeSet candidate) {
+			for (AttributeSet key : this.keys) {
+				if (candidate.containsAll(key)) {
 					return false;
 				}
 			}
+			return true;
+		}
+	}
+
+	/**
+	 * Enumerates all minimal keys of a relation following Lucchesi and Osborn, in time polynomial in the number of
+	 * keys, dependencies and attributes. Starting from one minimal key, every key <code>K</code> and dependency
+	 * <code>X -&gt; Y</code> yield the super key <code>X &cup; (K - Y)</code>, which is reduced to a new minimal key
+	 * unless it already contains a known one.
+	 * <br><br>
+	 * Keys are processed in rounds, the pairs of keys found in the previous round and dependencies being split across
+	 * the workers. All attributes of the dependencies have to be part of the relation.
+	 * @param dependencies The compiled functional dependencies of the relation
+	 * @param classification The classification of the relation's attributes
+	 * @return The encoded minimal keys
+	 */
+	private static Collection<AttributeSet> enumerateMinimalKeysInParallel(CompiledDependencySet dependencies, AttributeClassification classification) {
+		Set<AttributeSet> keys = ConcurrentHashMap.newKeySet();
+		List<EncodedDependency> encodedDependencies = dependencies.getDependencies();
+
+		List<AttributeSet> round = List.of(reduceToMinimalKey(classification.getCore().union(classification.getResidual()), dependencies, classification));
+		keys.addAll(round);
+
+		while (!round.isEmpty() && !encodedDependencies.isEmpty()) {
+			List<AttributeSet> currentRound = round;
+			Queue<AttributeSet> nextRound = new ConcurrentLinkedQueue<>();
+
+			forEachIndexInParallel(currentRound.size() * encodedDependencies.size(), i -> {
+				AttributeSet key = currentRound.get(i / encodedDependencies.size());
+				EncodedDependency dependency = encodedDependencies.get(i % encodedDependencies.size());
+
+				AttributeSet superKey = dependency.lhs().union(key.minus(dependency.rhs()));
+				if (keys.stream().noneMatch(superKey::containsAll)) {
+					AttributeSet newKey = reduceToMinimalKey(superKey, dependencies, classification);
+					if (keys.add(newKey)) {
+						nextRound.add(newKey);
+					}
+				}
+			});
+
+			round = new ArrayList<>(nextRound);
+		}
+
+		return keys;
+	}
+
+	/**
+	 * Searches the minimal keys of a relation level by level among the supersets of its core attributes, only
+	 * considering the residual attributes. A candidate is a minimal key if it determines the whole relation and
+	 * contains no key found on a lower level.
+	 * <br><br>
+	 * The candidates of each level are partitioned across the workers by their first residual attribute.
+	 * @param dependencies The compiled functional dependencies of the relation
+	 * @param classification The classification of the relation's attributes
+	 * @return The encoded minimal keys
+	 */
+	private static Collection<AttributeSet> searchMinimalKeysInParallel(CompiledDependencySet dependencies, AttributeClassification classification) {
+		Set<AttributeSet> keys = ConcurrentHashMap.newKeySet();
+		AttributeSet core = classification.getCore();
+		int[] residual = classification.getResidual().toIndices();
+
+		if (isSuperKey(core, dependencies, classification)) {
+			keys.add(core);
+			return keys;
+		}
+
+		for (int i = 1; i <= residual.length; i++) {
+			int level = i;
+			forEachIndexInParallel(residual.length - level + 1, first -> {
+				AttributeSet prefix = core.with(residual[first]);
+				if (level == 1) {
+					testCandidate(prefix, keys, dependencies, classification);
+					return;
+				}
+
+				Combinations.forEachWords(residual.length - first - 1, level - 1, words ->
+						testCandidate(toCandidate(prefix, residual, first + 1, words), keys, dependencies, classification));
+			});
+		}
+
+		return keys;
+	}
+
+	/**
+	 * Adds the residual attributes selected by the supplied combination to the base attributes.
+	 * @param base The attributes every candidate contains
+	 * @param residual The residual attributes
+	 * @param offset The position in <code>residual</code> of the element represented by bit 0 of the combination
+	 * @param combination The words of the combination
+	 * @return The candidate
+	 */
+	private static AttributeSet toCandidate(AttributeSet base, int[] residual, int offset, long[] combination) {
+		long[] words = base.toWords();
+		for (int w = 0; w < combination.length; w++) {
+			for (long remaining = combination[w]; remaining != 0; remaining &= remaining - 1) {
+				int attribute = residual[offset + (w << 6) + Long.numberOfTrailingZeros(remaining)];
+				if ((attribute >>> 6) >= words.length) {
+					words = Arrays.copyOf(words, (attribute >>> 6) + 1);
+				}
+				words[attribute >>> 6] |= 1L << attribute;
+			}
+		}
+		return AttributeSet.ofWords(words);
+	}
+
+	private static void testCandidate(AttributeSet candidate, Set<AttributeSet> keys, CompiledDependencySet dependencies, AttributeClassification classification) {
+		if (keys.stream().noneMatch(candidate::containsAll) && isSuperKey(candidate, dependencies, classification)) {
+			keys.add(candidate);
+		}
+	}
+
+	/**
+	 * Removes residual attributes from the supplied super key for as long as the remaining attributes still determine
+	 * the whole relation.
+	 */
+	private static AttributeSet reduceToMinimalKey(AttributeSet superKey, CompiledDependencySet dependencies, AttributeClassification classification) {
+		AttributeSet key = superKey;
+		AttributeSet removable = superKey.intersection(classification.getResidual());
+		for (int attribute = removable.nextSetBit(0); attribute >= 0; attribute = removable.nextSetBit(attribute + 1)) {
+			AttributeSet candidate = key.without(attribute);
+			if (isSuperKey(candidate, dependencies, classification)) {
+				key = candidate;
+			}
 		}
+		return key;
+	}
+
+	private static boolean isSuperKey(AttributeSet attributes, CompiledDependencySet dependencies, AttributeClassification classification) {
+		return dependencies.closure(attributes).containsAll(classification.getRelationAttributes());
+	}
 
-		return true;
+	/**
+	 * Performs the supplied action for every index from 0 (inclusive) to <code>size</code> (exclusive), split across
+	 * the workers of the configured <code>ForkJoinPool</code>.
+	 */
+	private static void forEachIndexInParallel(int size, IntConsumer action) {
+		pool.invoke(new IndexRangeAction(0, size, action));
+	}
+
+	/**
+	 * Splits a range of indices in halves until it is small enough to be processed by a single worker.
+	 */
+	private static class IndexRangeAction extends RecursiveAction {
+
+		private static final int SEQUENTIAL_THRESHOLD = 4;
+
+		private final int from;
+		private final int to;
+		private final IntConsumer action;
+
+		IndexRangeAction(int from, int to, IntConsumer action) {
+			this.from = from;
+			this.to = to;
+			this.action = action;
+		}
+
+		@Override
+		protected void compute() {
+			if (this.to - this.from <= SEQUENTIAL_THRESHOLD) {
+				for (int i = this.from; i < this.to; i++) {
+					this.action.accept(i);
+				}
+			} else {
+				int middle = (this.from + this.to) >>> 1;
+				invokeAll(new IndexRangeAction(this.from, middle, this.action), new IndexRangeAction(middle, this.to, this.action));
+			}
+		}
+	}
+
+	public static Set<Key> determineMinimalKeys(Relation relation){
+		KeysContainer container = new KeysContainer();
+		determineMinimalKeys(relation, container);
+
+		return container.getMinimalKeys();
+	}
+
+	public static TreeSet<Key> determinePartialKeys(Collection<Key> minimalKeys) {
+		TreeSet<Key> partialKeys = new TreeSet<>(new KeyComparator());
+
+        for (Key currKey : minimalKeys) {
+            String[] attributes = currKey.getAttributes().toArray(new String[0]);
+            for (int i = 1; i < attributes.length; i++) {
+                Combinations.forEach(attributes.length, i, mask -> {
+                    Key partialKey = new Key();
+                    for (long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+                        partialKey.addAttribute(attributes[Long.numberOfTrailingZeros(remaining)]);
+                    }
+                    partialKeys.add(partialKey);
+                });
+            }
+        }
+
+		return partialKeys;
 	}
 
 	public static TreeSet<Key> determineSuperKeys(Relation relation) {
+		CompiledDependencySet dependencies = compile(relation);
+		AttributeSet relationAttributes = dependencies.getUniverse().encode(relation.getAttributes());
+
 		//CALCULATING ATTRIBUTES THAT ARE PART OF EVERY KEY - RESTRICTING SET OF CANDIDATE ATTRIBUTES
         Set<String> constantAttributes = new HashSet<>(relation.getAttributes());
 		for (FunctionalDependency currDependency : relation.getFunctionalDependencies()){
@@ -186,31 +542,26 @@ public static TreeSet<Key> determineSuperKeys(Relation relation) {
 			constantAttributes.removeAll(currDependency.getRhsAttributes());
 		}
 
-        List<String> candidateAttributes = new LinkedList<>(relation.getAttributes());
+        List<String> candidateAttributes = new ArrayList<>(relation.getAttributes());
 		candidateAttributes.removeAll(constantAttributes);
 
 		TreeSet<Key> superKeys = new TreeSet<>(new KeyComparator());
 		if (!candidateAttributes.isEmpty()){
 			//CALCULATING SUPER KEYS
 			for (int i = 1; i <= candidateAttributes.size(); i++) {
-				CombinationGenerator generator = new CombinationGenerator(candidateAttributes.size(), i);
-
-				while (generator.hasMore()) {
+				Combinations.forEachWords(candidateAttributes.size(), i, words -> {
 					Key candidate = new Key(constantAttributes);
+					for (int w = 0; w < words.length; w++) {
+						for (long remaining = words[w]; remaining != 0; remaining &= remaining - 1) {
+							candidate.addAttribute(candidateAttributes.get((w << 6) + Long.numberOfTrailingZeros(remaining)));
+						}
+					}
 
-					int[] indices = generator.getNext();
-                    for (int index : indices) {
-                        candidate.addAttribute(candidateAttributes.get(index));
-                    }
-
-					List<String> attributes = new LinkedList<>(candidate.getAttributes());
-
-					Collection<String> closure = Closure.execute(attributes, relation.getFunctionalDependencies());
-					if (closure.containsAll(relation.getAttributes())) {
-						Key superKey = new Key(attributes);
-						superKeys.add(superKey);
+					AttributeSet closure = dependencies.closure(dependencies.getUniverse().encode(candidate));
+					if (closure.containsAll(relationAttributes)) {
+						superKeys.add(candidate);
 					}
-				}
+				});
 			}
 		} else {
 			Key superKey = new Key(relation.getAttributes());
@@ -220,6 +571,14 @@ public static TreeSet<Key> determineSuperKeys(Relation relation) {
 		return superKeys;
 	}
 
+	/**
+	 * Compiles the functional dependencies of the supplied relation over all of its attributes, memoizing closures so
+	 * that subsets evaluated repeatedly during a key search are only computed once.
+	 */
+	private static CompiledDependencySet compile(Relation relation) {
+		return new CompiledDependencySet(AttributeUniverse.of(relation), relation.getFunctionalDependencies(), CLOSURE_CACHE_SIZE);
+	}
+
 	private static void test_HOLDS_KEY(){
 		int[] key = new int[]{0,1};
 		TupleSet tuples = new TupleSet();
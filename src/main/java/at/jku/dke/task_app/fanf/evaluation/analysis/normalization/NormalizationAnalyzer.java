@@ -2,8 +2,7 @@
 
 
 
-import at.jku.dke.task_app.fanf.evaluation.algorithms.Closure;
-import at.jku.dke.task_app.fanf.evaluation.algorithms.Member;
+import at.jku.dke.task_app.fanf.evaluation.algorithms.CompiledDependencySet;
 import at.jku.dke.task_app.fanf.evaluation.analysis.keys.KeysAnalyzer;
 import at.jku.dke.task_app.fanf.evaluation.analysis.keys.KeysAnalyzerConfig;
 import at.jku.dke.task_app.fanf.evaluation.analysis.minimalcover.MinimalCoverAnalyzer;
@@ -63,8 +62,12 @@ public static NormalizationAnalysis analyze(NormalizationAnalyzerConfig config)
 		}
 
 		//ANALYZE EXTRANEOUS ATTRIBUTES
+		Map<IdentifiedRelation, CompiledDependencySet> compiledRelationDependencies = new IdentityHashMap<>();
 		for (IdentifiedRelation currRelation : config.getNormalizedRelations()) {
-			analysis.addExtraneousAttributesAnalysis(currRelation.getID(), MinimalCoverAnalyzer.analyzeExtraneousAttributes(currRelation.getFunctionalDependencies()));
+			CompiledDependencySet compiledDependencies = new CompiledDependencySet(currRelation.getFunctionalDependencies());
+			compiledRelationDependencies.put(currRelation, compiledDependencies);
+
+			analysis.addExtraneousAttributesAnalysis(currRelation.getID(), MinimalCoverAnalyzer.analyzeExtraneousAttributes(currRelation.getFunctionalDependencies(), compiledDependencies));
 			if (!analysis.getExtraneousAttributesAnalysis(currRelation.getID()).submissionSuitsSolution()){
 				analysis.setSubmissionSuitsSolution(false);
 				// return analysis; // Note: disabled for grading purposes (Gerald Wimmer, 2023-12-31).
@@ -77,7 +80,7 @@ public static NormalizationAnalysis analyze(NormalizationAnalyzerConfig config)
 			Set<FunctionalDependency> trivialDeps = analysis.getTrivialDependenciesAnalysis(currRelation.getID()).getTrivialDependencies();
 			nonTrivialDeps.removeAll(trivialDeps);
 
-			analysis.addRedundantDependenciesAnalysis(currRelation.getID(), MinimalCoverAnalyzer.analyzeRedundantDependencies(nonTrivialDeps));
+			analysis.addRedundantDependenciesAnalysis(currRelation.getID(), MinimalCoverAnalyzer.analyzeRedundantDependencies(nonTrivialDeps, compiledRelationDependencies.get(currRelation)));
 			if (!analysis.getRedundantDependenciesAnalysis(currRelation.getID()).submissionSuitsSolution()){
 				analysis.setSubmissionSuitsSolution(false);
 				// return analysis; // Note: disabled for grading purposes (Gerald Wimmer, 2023-12-31).
@@ -152,8 +155,9 @@ public static LosslessAnalysis analyzeLossless(Relation baseRelation, Collection
 			decomposedRelationsDependencies.addAll(decomposedRelation.getFunctionalDependencies());
 		}
 
+		CompiledDependencySet compiledDependencies = new CompiledDependencySet(decomposedRelationsDependencies);
 		for (Relation decomposedRelation : decomposedRelations){
-			Set<String> closure = Closure.execute(decomposedRelation.getAttributes(), decomposedRelationsDependencies);
+			Set<String> closure = compiledDependencies.closure(decomposedRelation.getAttributes());
 			if (closure.containsAll(baseRelation.getAttributes())) {
 				analysis.setSubmissionSuitsSolution(true);
 				break;
@@ -177,8 +181,9 @@ public static DependenciesPreservationAnalysis analyzeDependenciesPreservation(R
             decomposedRelationsDependencies.addAll(decomposedRelation.getFunctionalDependencies());
         }
 
+		CompiledDependencySet compiledDependencies = new CompiledDependencySet(decomposedRelationsDependencies);
 		for (FunctionalDependency currBaseDependency : baseRelation.getFunctionalDependencies()){
-			if (!Member.execute(currBaseDependency, decomposedRelationsDependencies)){
+			if (!compiledDependencies.implies(currBaseDependency)){
 				analysis.addLostFunctionalDependency(currBaseDependency);
 			}
 		}
@@ -2,8 +2,8 @@
 
 
 
-import at.jku.dke.task_app.fanf.evaluation.algorithms.Member;
-import at.jku.dke.task_app.fanf.evaluation.algorithms.ReductionByResolution;
+import at.jku.dke.task_app.fanf.evaluation.algorithms.CompiledDependencySet;
+import at.jku.dke.task_app.fanf.evaluation.algorithms.ProjectionCache;
 import at.jku.dke.task_app.fanf.evaluation.model.FunctionalDependency;
 import at.jku.dke.task_app.fanf.evaluation.model.Relation;
 import org.slf4j.Logger;
@@ -28,7 +28,7 @@ public static RBRAnalysis analyze(Relation baseRelation, Relation subRelation){
 		RBRAnalysis analysis = new RBRAnalysis();
 		analysis.setSubmissionSuitsSolution(true);
 
-		Collection<FunctionalDependency> correctDependencies = ReductionByResolution.execute(baseRelation, subRelation.getAttributes());
+		Collection<FunctionalDependency> correctDependencies = ProjectionCache.getShared().execute(baseRelation, subRelation.getAttributes());
 
 		StringBuilder temp = new StringBuilder();
 		for (FunctionalDependency currDependency : correctDependencies){
@@ -36,12 +36,15 @@ public static RBRAnalysis analyze(Relation baseRelation, Relation subRelation){
 		}
 		LOG.info("CORRECT DEPENDENCIES: " + temp);
 
+		CompiledDependencySet compiledCorrectDependencies = new CompiledDependencySet(correctDependencies);
+		CompiledDependencySet compiledSubmittedDependencies = new CompiledDependencySet(subRelation.getFunctionalDependencies());
+
 		/*
 		 * Check if there is an equivalent for each correct dependency in the submission (i.e., whether any
 		 * dependencies are missing from the submission (Gerald Wimmer, 2024-01-01).
 		 */
 		for (FunctionalDependency currCorrectDependency : correctDependencies){
-			if (!Member.execute(currCorrectDependency, subRelation.getFunctionalDependencies())) {
+			if (!compiledSubmittedDependencies.implies(currCorrectDependency)) {
 				analysis.addMissingFunctionalDependency(currCorrectDependency);
 				analysis.setSubmissionSuitsSolution(false);
 
@@ -54,7 +57,7 @@ public static RBRAnalysis analyze(Relation baseRelation, Relation subRelation){
 		 * are any superfluous dependencies in the submission) (Gerald Wimmer, 2024-01-01).
 		 */
 		for (FunctionalDependency currSubmittedDependency : subRelation.getFunctionalDependencies()){
-			if (!Member.execute(currSubmittedDependency, correctDependencies)) {
+			if (!compiledCorrectDependencies.implies(currSubmittedDependency)) {
 				analysis.addAdditionalFunctionalDependency(currSubmittedDependency);
 				analysis.setSubmissionSuitsSolution(false);
 
@@ -0,0 +1,141 @@
+package at.jku.dke.task_app.fanf.evaluation.model;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Collection;
+
+/**
+ * Classifies the attributes of a relation by where they occur in its functional dependencies:
+ * <ul>
+ *     <li><b>L</b>: only on left-hand sides,</li>
+ *     <li><b>R</b>: only on right-hand sides,</li>
+ *     <li><b>LR</b>: on both sides,</li>
+ *     <li><b>N</b>: in no dependency at all.</li>
+ * </ul>
+ * L and N attributes cannot be derived and are therefore part of every key (the <i>core</i>). An R attribute is part
+ * of no minimal key if some dependency derives it from attributes of the relation alone. All remaining attributes form
+ * the <i>residual</i>, which is the only part of a relation a key search has to explore.
+ */
+public final class AttributeClassification implements Serializable {
+
+	@Serial
+	private static final long serialVersionUID = 6209412383601985517L;
+
+	private final AttributeSet relationAttributes;
+	private final AttributeSet lhsOnly;
+	private final AttributeSet rhsOnly;
+	private final AttributeSet both;
+	private final AttributeSet neither;
+	private final AttributeSet core;
+	private final AttributeSet excluded;
+	private final AttributeSet residual;
+
+	private AttributeClassification(AttributeSet relationAttributes, AttributeSet lhsOnly, AttributeSet rhsOnly,
+									AttributeSet both, AttributeSet neither, AttributeSet excluded) {
+		this.relationAttributes = relationAttributes;
+		this.lhsOnly = lhsOnly;
+		this.rhsOnly = rhsOnly;
+		this.both = both;
+		this.neither = neither;
+		this.core = lhsOnly.union(neither);
+		this.excluded = excluded;
+		this.residual = relationAttributes.minus(this.core).minus(excluded);
+	}
+
+	/**
+	 * Classifies the attributes of a relation.
+	 * @param relationAttributes The encoded attributes of the relation
+	 * @param dependencies The encoded functional dependencies of the relation, which may also mention attributes
+	 *                        outside the relation
+	 * @return The <code>AttributeClassification</code> of the relation's attributes
+	 */
+	public static AttributeClassification classify(AttributeSet relationAttributes, Collection<EncodedDependency> dependencies) {
+		AttributeSet lhsAttributes = AttributeSet.empty(0);
+		AttributeSet rhsAttributes = lhsAttributes;
+		for (EncodedDependency dependency : dependencies) {
+			lhsAttributes = lhsAttributes.union(dependency.lhs());
+			rhsAttributes = rhsAttributes.union(dependency.rhs());
+		}
+
+		AttributeSet lhsOnly = relationAttributes.intersection(lhsAttributes).minus(rhsAttributes);
+		AttributeSet rhsOnly = relationAttributes.intersection(rhsAttributes).minus(lhsAttributes);
+		AttributeSet both = relationAttributes.intersection(lhsAttributes).intersection(rhsAttributes);
+		AttributeSet neither = relationAttributes.minus(lhsAttributes).minus(rhsAttributes);
+
+		// An R attribute derived from attributes of the relation can be dropped from any key containing it
+		AttributeSet excluded = AttributeSet.empty(0);
+		for (EncodedDependency dependency : dependencies) {
+			if (relationAttributes.containsAll(dependency.lhs())) {
+				excluded = excluded.union(dependency.rhs().intersection(rhsOnly));
+			}
+		}
+
+		return new AttributeClassification(relationAttributes, lhsOnly, rhsOnly, both, neither, excluded);
+	}
+
+	public AttributeSet getRelationAttributes() {
+		return this.relationAttributes;
+	}
+
+	public AttributeSet getLhsOnly() {
+		return this.lhsOnly;
+	}
+
+	public AttributeSet getRhsOnly() {
+		return this.rhsOnly;
+	}
+
+	public AttributeSet getBoth() {
+		return this.both;
+	}
+
+	public AttributeSet getNeither() {
+		return this.neither;
+	}
+
+	/**
+	 * Returns the attributes that are part of every key, i.e., the L and N attributes.
+	 * @return The core attributes
+	 */
+	public AttributeSet getCore() {
+		return this.core;
+	}
+
+	/**
+	 * Returns the R attributes that are part of no minimal key.
+	 * @return The excluded attributes
+	 */
+	public AttributeSet getExcluded() {
+		return this.excluded;
+	}
+
+	/**
+	 * Returns the attributes whose membership in the keys has to be determined by a search.
+	 * @return The residual attributes
+	 */
+	public AttributeSet getResidual() {
+		return this.residual;
+	}
+
+	/**
+	 * Returns the number of residual attributes. An exhaustive key search has to consider up to 2^n subsets of them.
+	 * @return The size of the residual search space as a power of two
+	 */
+	public int getResidualSize() {
+		return this.residual.cardinality();
+	}
+
+	/**
+	 * Returns the attributes that occur in at least one dependency, i.e., the L, R and LR attributes.
+	 * @return The attributes of the relation occurring in dependencies
+	 */
+	public AttributeSet getDependencyAttributes() {
+		return this.relationAttributes.minus(this.neither);
+	}
+
+	@Override
+	public String toString() {
+		return "AttributeClassification[L=" + this.lhsOnly + ", R=" + this.rhsOnly + ", LR=" + this.both +
+				", N=" + this.neither + ", residual=" + this.residual + "]";
+	}
+}
@@ -1,14 +1,83 @@
 package at.jku.dke.task_app.fanf.evaluation.model;
 
 import java.io.Serializable;
+import java.text.CollationKey;
 import java.text.Collator;
 import java.util.Comparator;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
 
 
+/**
+ * Orders attribute names like the <code>Collator</code> of the default locale.
+ * <br><br>
+ * Instead of obtaining a new <code>Collator</code> for every comparison, the <code>CollationKey</code> of each name is
+ * computed once and kept in a bounded cache shared by all instances, so comparisons only compare precomputed keys. All
+ * instances are equal, which lets sorted collections built with different instances be merged in linear time.
+ */
 public class AttributeCollator implements Serializable, Comparator<String> {
 
+	/**
+	 * The maximum number of cached collation keys, after which the cache is cleared.
+	 */
+	private static final int MAX_CACHED_KEYS = 1 << 16;
+
+	private static volatile CollationKeys collationKeys = new CollationKeys(Locale.getDefault());
+
 	public int compare(String o1, String o2) {
-		return Collator.getInstance().compare(o1, o2);
+		return collationKey(o1).compareTo(collationKey(o2));
+	}
+
+	/**
+	 * Returns the cached <code>CollationKey</code> of the supplied string with respect to the default locale.
+	 * @param source The string
+	 * @return The <code>CollationKey</code> of the string
+	 */
+	public static CollationKey collationKey(String source) {
+		CollationKeys keys = collationKeys;
+		if (!keys.locale.equals(Locale.getDefault())) {
+			keys = new CollationKeys(Locale.getDefault());
+			collationKeys = keys;
+		}
+		return keys.get(source);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return obj instanceof AttributeCollator;
 	}
 
+	@Override
+	public int hashCode() {
+		return AttributeCollator.class.hashCode();
+	}
+
+	/**
+	 * The collation keys for one locale.
+	 */
+	private static final class CollationKeys {
+
+		private final Locale locale;
+		private final Collator collator;
+		private final ConcurrentHashMap<String, CollationKey> keys = new ConcurrentHashMap<>();
+
+		private CollationKeys(Locale locale) {
+			this.locale = locale;
+			this.collator = Collator.getInstance(locale);
+		}
+
+		private CollationKey get(String source) {
+			CollationKey key = this.keys.get(source);
+			if (key == null) {
+				if (this.keys.size() >= MAX_CACHED_KEYS) {
+					this.keys.clear();
+				}
+				synchronized (this.collator) {
+					key = this.collator.getCollationKey(source);
+				}
+				this.keys.put(source, key);
+			}
+			return key;
+		}
+	}
 }
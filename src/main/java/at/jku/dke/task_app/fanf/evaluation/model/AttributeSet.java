@@ -0,0 +1,263 @@
+package at.jku.dke.task_app.fanf.evaluation.model;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * An immutable set of attribute indices of an {@link AttributeUniverse}, stored as a bitset of <code>long</code>
+ * words. Relations of up to 64 attributes fit into a single word; larger universes use as many words as needed.
+ * <br><br>
+ * Sets of different word lengths may be combined; missing words are treated as empty.
+ */
+public final class AttributeSet implements Serializable {
+
+	@Serial
+	private static final long serialVersionUID = -4302850727356102419L;
+
+	private static final long[] NO_WORDS = new long[0];
+
+	private final long[] words;
+
+	private AttributeSet(long[] words) {
+		this.words = words;
+	}
+
+	/**
+	 * Returns an empty <code>AttributeSet</code> sized for a universe of the supplied number of attributes.
+	 * @param universeSize The number of attributes in the universe
+	 * @return An empty <code>AttributeSet</code>
+	 */
+	public static AttributeSet empty(int universeSize) {
+		return new AttributeSet(new long[wordCount(universeSize)]);
+	}
+
+	/**
+	 * Returns an <code>AttributeSet</code> containing all indices from 0 (inclusive) to the supplied number of
+	 * attributes (exclusive).
+	 * @param universeSize The number of attributes in the universe
+	 * @return An <code>AttributeSet</code> containing every attribute of the universe
+	 */
+	public static AttributeSet full(int universeSize) {
+		long[] words = new long[wordCount(universeSize)];
+		for (int i = 0; i < universeSize; i++) {
+			words[i >>> 6] |= 1L << i;
+		}
+		return new AttributeSet(words);
+	}
+
+	/**
+	 * Returns an <code>AttributeSet</code> containing the supplied indices.
+	 * @param universeSize The number of attributes in the universe
+	 * @param indices The indices to be contained
+	 * @return An <code>AttributeSet</code> containing the supplied indices
+	 */
+	public static AttributeSet of(int universeSize, int... indices) {
+		long[] words = new long[wordCount(universeSize)];
+		for (int index : indices) {
+			words[index >>> 6] |= 1L << index;
+		}
+		return new AttributeSet(words);
+	}
+
+	/**
+	 * Wraps a copy of the supplied words into an <code>AttributeSet</code>.
+	 * @param words The bitset words, bit <code>i</code> of word <code>w</code> representing index <code>64 * w + i</code>
+	 * @return An <code>AttributeSet</code> with the supplied bits
+	 */
+	public static AttributeSet ofWords(long[] words) {
+		return new AttributeSet(words.length == 0 ? NO_WORDS : words.clone());
+	}
+
+	/**
+	 * Returns the number of <code>long</code> words required for a universe of the supplied size.
+	 * @param universeSize The number of attributes in the universe
+	 * @return The number of words
+	 */
+	public static int wordCount(int universeSize) {
+		return (universeSize + 63) >>> 6;
+	}
+
+	public boolean contains(int index) {
+		int word = index >>> 6;
+		return word < this.words.length && (this.words[word] & (1L << index)) != 0;
+	}
+
+	/**
+	 * Tests whether every index of the supplied set is also contained in this set.
+	 * @param other The potential subset
+	 * @return Whether <code>other</code> is a subset of this set
+	 */
+	public boolean containsAll(AttributeSet other) {
+		for (int i = 0; i < other.words.length; i++) {
+			long mine = i < this.words.length ? this.words[i] : 0L;
+			if ((other.words[i] & ~mine) != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public boolean intersects(AttributeSet other) {
+		int n = Math.min(this.words.length, other.words.length);
+		for (int i = 0; i < n; i++) {
+			if ((this.words[i] & other.words[i]) != 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public boolean isEmpty() {
+		for (long word : this.words) {
+			if (word != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the highest contained index plus one, analogous to {@link java.util.BitSet#length()}.
+	 * @return The logical length of this set, or 0 if it is empty
+	 */
+	public int length() {
+		for (int i = this.words.length - 1; i >= 0; i--) {
+			if (this.words[i] != 0) {
+				return (i << 6) + 64 - Long.numberOfLeadingZeros(this.words[i]);
+			}
+		}
+		return 0;
+	}
+
+	public int cardinality() {
+		int count = 0;
+		for (long word : this.words) {
+			count += Long.bitCount(word);
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the lowest index contained in this set that is greater than or equal to <code>fromIndex</code>.
+	 * @param fromIndex The index to start searching from (inclusive)
+	 * @return The next contained index, or -1 if there is none
+	 */
+	public int nextSetBit(int fromIndex) {
+		int word = fromIndex >>> 6;
+		if (word >= this.words.length) {
+			return -1;
+		}
+
+		long remaining = this.words[word] & (-1L << fromIndex);
+		while (true) {
+			if (remaining != 0) {
+				return (word << 6) + Long.numberOfTrailingZeros(remaining);
+			}
+			if (++word == this.words.length) {
+				return -1;
+			}
+			remaining = this.words[word];
+		}
+	}
+
+	public AttributeSet union(AttributeSet other) {
+		long[] result = Arrays.copyOf(this.words, Math.max(this.words.length, other.words.length));
+		for (int i = 0; i < other.words.length; i++) {
+			result[i] |= other.words[i];
+		}
+		return new AttributeSet(result);
+	}
+
+	public AttributeSet intersection(AttributeSet other) {
+		long[] result = this.words.clone();
+		for (int i = 0; i < result.length; i++) {
+			result[i] &= i < other.words.length ? other.words[i] : 0L;
+		}
+		return new AttributeSet(result);
+	}
+
+	public AttributeSet minus(AttributeSet other) {
+		long[] result = this.words.clone();
+		int n = Math.min(result.length, other.words.length);
+		for (int i = 0; i < n; i++) {
+			result[i] &= ~other.words[i];
+		}
+		return new AttributeSet(result);
+	}
+
+	public AttributeSet with(int index) {
+		if (contains(index)) {
+			return this;
+		}
+		long[] result = Arrays.copyOf(this.words, Math.max(this.words.length, (index >>> 6) + 1));
+		result[index >>> 6] |= 1L << index;
+		return new AttributeSet(result);
+	}
+
+	public AttributeSet without(int index) {
+		if (!contains(index)) {
+			return this;
+		}
+		long[] result = this.words.clone();
+		result[index >>> 6] &= ~(1L << index);
+		return new AttributeSet(result);
+	}
+
+	/**
+	 * Returns the contained indices in ascending order.
+	 * @return The contained indices
+	 */
+	public int[] toIndices() {
+		int[] indices = new int[cardinality()];
+		int pos = 0;
+		for (int i = nextSetBit(0); i >= 0; i = nextSetBit(i + 1)) {
+			indices[pos++] = i;
+		}
+		return indices;
+	}
+
+	/**
+	 * Returns a copy of the underlying bitset words.
+	 * @return A copy of the words of this set
+	 */
+	public long[] toWords() {
+		return this.words.clone();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof AttributeSet other)) {
+			return false;
+		}
+
+		int n = Math.max(this.words.length, other.words.length);
+		for (int i = 0; i < n; i++) {
+			long mine = i < this.words.length ? this.words[i] : 0L;
+			long theirs = i < other.words.length ? other.words[i] : 0L;
+			if (mine != theirs) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		// Trailing empty words are ignored so that equal sets of different word lengths hash alike.
+		long h = 1234;
+		for (int i = this.words.length; --i >= 0; ) {
+			h ^= this.words[i] * (i + 1);
+		}
+		return (int) ((h >> 32) ^ h);
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(toIndices());
+	}
+}
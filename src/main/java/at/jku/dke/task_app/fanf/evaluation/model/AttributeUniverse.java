@@ -0,0 +1,210 @@
+package at.jku.dke.task_app.fanf.evaluation.model;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * Maps the attribute names of a relation to dense indices, so that attribute sets, functional dependencies and keys
+ * can be represented as {@link AttributeSet} bitsets. Indices follow the order of {@link AttributeCollator}, i.e.,
+ * decoding a bitset yields the attributes in the same order as the collator-sorted <code>TreeSet</code>s of the model.
+ * <br><br>
+ * String views of bitsets are only meant to be materialized for feedback rendering and at the boundaries to the
+ * string-based model classes.
+ */
+public final class AttributeUniverse implements Serializable {
+
+	@Serial
+	private static final long serialVersionUID = 2563187449925010781L;
+
+	private final String[] attributes;
+	private final Map<String, Integer> indices;
+
+	private AttributeUniverse(SortedSet<String> attributes) {
+		this.attributes = attributes.toArray(new String[0]);
+		this.indices = new HashMap<>(this.attributes.length * 2);
+		for (int i = 0; i < this.attributes.length; i++) {
+			this.indices.put(this.attributes[i], i);
+		}
+	}
+
+	/**
+	 * Creates a new <code>AttributeUniverse</code> containing the supplied attributes.
+	 * @param attributes The attributes of the universe
+	 * @return A new <code>AttributeUniverse</code>
+	 */
+	public static AttributeUniverse of(Collection<String> attributes) {
+		return of(attributes, Collections.emptyList());
+	}
+
+	/**
+	 * Creates a new <code>AttributeUniverse</code> containing the supplied attributes as well as all attributes that
+	 * occur in the supplied functional dependencies.
+	 * @param attributes The attributes of the universe
+	 * @param dependencies Functional dependencies whose attributes are to be part of the universe
+	 * @return A new <code>AttributeUniverse</code>
+	 */
+	public static AttributeUniverse of(Collection<String> attributes, Collection<FunctionalDependency> dependencies) {
+		TreeSet<String> allAttributes = new TreeSet<>(new AttributeCollator());
+		allAttributes.addAll(attributes);
+		for (FunctionalDependency dependency : dependencies) {
+			allAttributes.addAll(dependency.getLhsAttributes());
+			allAttributes.addAll(dependency.getRhsAttributes());
+		}
+		return new AttributeUniverse(allAttributes);
+	}
+
+	/**
+	 * Creates a new <code>AttributeUniverse</code> for the supplied relation, containing its attributes as well as all
+	 * attributes that occur in its functional dependencies and minimal keys.
+	 * @param relation The relation
+	 * @return A new <code>AttributeUniverse</code>
+	 */
+	public static AttributeUniverse of(Relation relation) {
+		TreeSet<String> allAttributes = new TreeSet<>(new AttributeCollator());
+		allAttributes.addAll(relation.getAttributes());
+		for (Key key : relation.getMinimalKeys()) {
+			allAttributes.addAll(key.getAttributes());
+		}
+		return of(allAttributes, relation.getFunctionalDependencies());
+	}
+
+	public int size() {
+		return this.attributes.length;
+	}
+
+	public boolean contains(String attribute) {
+		return this.indices.containsKey(attribute);
+	}
+
+	/**
+	 * Returns the index of the supplied attribute.
+	 * @param attribute The attribute
+	 * @return The index of the attribute, or -1 if it is not part of this universe
+	 */
+	public int indexOf(String attribute) {
+		Integer index = this.indices.get(attribute);
+		return index == null ? -1 : index;
+	}
+
+	/**
+	 * Returns the attribute with the supplied index.
+	 * @param index The index
+	 * @return The attribute with the supplied index
+	 */
+	public String getAttribute(int index) {
+		return this.attributes[index];
+	}
+
+	public AttributeSet empty() {
+		return AttributeSet.empty(this.attributes.length);
+	}
+
+	public AttributeSet full() {
+		return AttributeSet.full(this.attributes.length);
+	}
+
+	/**
+	 * Encodes the supplied attributes as an <code>AttributeSet</code>.
+	 * @param attributes The attributes to be encoded
+	 * @return The bitset representation of the supplied attributes
+	 * @throws IllegalArgumentException If any of the attributes is not part of this universe
+	 */
+	public AttributeSet encode(Collection<String> attributes) {
+		long[] words = new long[AttributeSet.wordCount(this.attributes.length)];
+		for (String attribute : attributes) {
+			int index = indexOf(attribute);
+			if (index < 0) {
+				throw new IllegalArgumentException("Attribute \"" + attribute + "\" is not part of the attribute universe.");
+			}
+			words[index >>> 6] |= 1L << index;
+		}
+		return AttributeSet.ofWords(words);
+	}
+
+	/**
+	 * Encodes the attributes of the supplied key as an <code>AttributeSet</code>.
+	 * @param key The key to be encoded
+	 * @return The bitset representation of the key
+	 * @throws IllegalArgumentException If any of the attributes is not part of this universe
+	 */
+	public AttributeSet encode(Key key) {
+		return encode(key.getAttributes());
+	}
+
+	/**
+	 * Encodes the supplied functional dependency.
+	 * @param dependency The functional dependency to be encoded
+	 * @return The bitset representation of the functional dependency
+	 * @throws IllegalArgumentException If any of the attributes is not part of this universe
+	 */
+	public EncodedDependency encode(FunctionalDependency dependency) {
+		return new EncodedDependency(encode(dependency.getLhsAttributes()), encode(dependency.getRhsAttributes()));
+	}
+
+	/**
+	 * Encodes each of the supplied functional dependencies, preserving their iteration order.
+	 * @param dependencies The functional dependencies to be encoded
+	 * @return A <code>List</code> of the bitset representations of the functional dependencies
+	 * @throws IllegalArgumentException If any of the attributes is not part of this universe
+	 */
+	public List<EncodedDependency> encodeAll(Collection<FunctionalDependency> dependencies) {
+		List<EncodedDependency> encoded = new ArrayList<>(dependencies.size());
+		for (FunctionalDependency dependency : dependencies) {
+			encoded.add(encode(dependency));
+		}
+		return encoded;
+	}
+
+	/**
+	 * Materializes the string view of the supplied <code>AttributeSet</code>.
+	 * @param attributeSet The bitset to be decoded
+	 * @return A collator-sorted <code>Set</code> of the attribute names
+	 */
+	public TreeSet<String> decode(AttributeSet attributeSet) {
+		TreeSet<String> decoded = new TreeSet<>(new AttributeCollator());
+		for (int i = attributeSet.nextSetBit(0); i >= 0; i = attributeSet.nextSetBit(i + 1)) {
+			decoded.add(this.attributes[i]);
+		}
+		return decoded;
+	}
+
+	public Key decodeKey(AttributeSet attributeSet) {
+		return new Key(decode(attributeSet));
+	}
+
+	public FunctionalDependency decode(EncodedDependency dependency) {
+		return new FunctionalDependency(decode(dependency.lhs()), decode(dependency.rhs()));
+	}
+
+	/**
+	 * Returns the attributes of this universe in index order.
+	 * @return An unmodifiable <code>List</code> of the attributes
+	 */
+	public List<String> getAttributes() {
+		return List.of(this.attributes);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof AttributeUniverse other)) {
+			return false;
+		}
+
+		return Arrays.equals(this.attributes, other.attributes);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(this.attributes);
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(this.attributes);
+	}
+}
@@ -0,0 +1,21 @@
+package at.jku.dke.task_app.fanf.evaluation.model;
+
+import java.io.Serializable;
+
+/**
+ * The bitset representation of a {@link FunctionalDependency} with respect to an {@link AttributeUniverse}.
+ *
+ * @param lhs The attributes on the left-hand side
+ * @param rhs The attributes on the right-hand side
+ */
+public record EncodedDependency(AttributeSet lhs, AttributeSet rhs) implements Serializable {
+
+	/**
+	 * Tests whether either side of this dependency is empty or if the left-hand side contains the right-hand side,
+	 * analogous to {@link FunctionalDependency#isTrivial()}.
+	 * @return whether this dependency is trivial
+	 */
+	public boolean isTrivial() {
+		return this.lhs.isEmpty() || this.rhs.isEmpty() || this.lhs.containsAll(this.rhs);
+	}
+}
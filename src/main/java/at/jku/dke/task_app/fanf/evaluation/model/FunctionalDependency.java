@@ -12,6 +12,11 @@ public class FunctionalDependency implements Serializable{
 	private final Set<String> lhsAttributes;
 	private final Set<String> rhsAttributes;
 
+	/**
+	 * The sorted attributes and hash code, computed on demand and discarded on every modification.
+	 */
+	private transient Canonical canonical;
+
 	public FunctionalDependency() {
 		this.lhsAttributes = new TreeSet<>(new AttributeCollator());
 		this.rhsAttributes = new TreeSet<>(new AttributeCollator());
@@ -55,34 +60,53 @@ public boolean isTrivial() {
 
 	@Override
 	public boolean equals(Object obj) {
-		if (obj == null) {
-			return false;
+		if (this == obj) {
+			return true;
 		}
 
 		if (!(obj instanceof FunctionalDependency)) {
 			return false;
 		}
 
-		FunctionalDependency dependency = (FunctionalDependency)obj;
+		Canonical mine = this.canonical();
+		Canonical theirs = ((FunctionalDependency)obj).canonical();
 
-		if (!(dependency.getLhsAttributes().containsAll(this.lhsAttributes))) {
-			return false;
-		}
+		return mine.hash() == theirs.hash() && Arrays.equals(mine.lhs(), theirs.lhs()) && Arrays.equals(mine.rhs(), theirs.rhs());
+	}
 
-		if (!(dependency.getRhsAttributes().containsAll(this.rhsAttributes))) {
-			return false;
-		}
+	/**
+	 * Returns the same value as <code>Objects.hash(lhsAttributes, rhsAttributes)</code>, which is cached until this
+	 * <code>FunctionalDependency</code> is modified.
+	 * @return The hash code of this <code>FunctionalDependency</code>
+	 */
+	@Override
+	public int hashCode() {
+		return this.canonical().hash();
+	}
 
-		if (!(this.lhsAttributes.containsAll(dependency.getLhsAttributes()))) {
-			return false;
+	private Canonical canonical() {
+		Canonical current = this.canonical;
+		if (current == null) {
+			String[] lhs = this.lhsAttributes.toArray(new String[0]);
+			String[] rhs = this.rhsAttributes.toArray(new String[0]);
+			current = new Canonical(lhs, rhs, 31 * (31 + setHash(lhs)) + setHash(rhs));
+			this.canonical = current;
 		}
+		return current;
+	}
 
-        return this.rhsAttributes.containsAll(dependency.getRhsAttributes());
-    }
+	private static int setHash(String[] attributes) {
+		int hash = 0;
+		for (String attribute : attributes) {
+			hash += attribute.hashCode();
+		}
+		return hash;
+	}
 
-	@Override
-	public int hashCode() {
-		return Objects.hash(lhsAttributes, rhsAttributes);
+	/**
+	 * The collator-sorted attributes of both sides and the hash code of a <code>FunctionalDependency</code>.
+	 */
+	private record Canonical(String[] lhs, String[] rhs, int hash) {
 	}
 
 	@Override
@@ -102,6 +126,7 @@ public String toString() {
 
 	public boolean addLHSAttribute(String attribute) {
 		if (attribute != null) {
+			this.canonical = null;
 			return this.lhsAttributes.add(attribute);
 		} else {
 			return false;
@@ -110,6 +135,7 @@ public boolean addLHSAttribute(String attribute) {
 
 	public boolean addRHSAttribute(String attribute) {
 		if (attribute != null) {
+			this.canonical = null;
 			return this.rhsAttributes.add(attribute);
 		} else {
 			return false;
@@ -129,6 +155,7 @@ public void addAllRhsAttributes(Collection<String> attributes){
 	}
 
 	public void setLhsAttributes(Collection<String> attributes) {
+		this.canonical = null;
 		this.lhsAttributes.clear();
 		if (attributes != null) {
             for (String attribute : attributes) {
@@ -138,6 +165,7 @@ public void setLhsAttributes(Collection<String> attributes) {
 	}
 
 	public void setRhsAttributes(Collection<String> attributes) {
+		this.canonical = null;
 		this.rhsAttributes.clear();
 		if (attributes != null) {
             for (String attribute : attributes) {
@@ -147,26 +175,32 @@ public void setRhsAttributes(Collection<String> attributes) {
 	}
 
 	public boolean removeLhsAttribute(String attribute) {
+		this.canonical = null;
 		return this.lhsAttributes.remove(attribute);
 	}
 
 	public boolean removeRhsAttribute(String attribute) {
+		this.canonical = null;
 		return this.rhsAttributes.remove(attribute);
 	}
 
 	public void removeAllLhsAttributes() {
+		this.canonical = null;
 		this.lhsAttributes.clear();
 	}
 
 	public void removeAllRhsAttributes() {
+		this.canonical = null;
 		this.rhsAttributes.clear();
 	}
 
 	public void removeLhsAttributes(Collection<String> attributes) {
+		this.canonical = null;
 		this.lhsAttributes.removeAll(attributes);
 	}
 
 	public void removeRhsAttributes(Collection<String> attributes) {
+		this.canonical = null;
 		this.rhsAttributes.removeAll(attributes);
 	}
 
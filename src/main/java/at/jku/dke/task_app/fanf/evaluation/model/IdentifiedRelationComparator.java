@@ -1,7 +1,6 @@
 package at.jku.dke.task_app.fanf.evaluation.model;
 
 import java.io.Serializable;
-import java.text.Collator;
 import java.util.Comparator;
 import java.util.TreeSet;
 
@@ -42,7 +41,7 @@ public int compare(IdentifiedRelation o1, IdentifiedRelation o2) {
 			}
 		}*/
 
-		return Collator.getInstance().compare(id1, id2);
+		return AttributeCollator.collationKey(id1).compareTo(AttributeCollator.collationKey(id2));
 
 	}
 
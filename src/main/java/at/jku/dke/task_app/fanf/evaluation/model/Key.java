@@ -10,6 +10,11 @@ public class Key implements Serializable {
 
 	private final Set<String> attributes;
 
+	/**
+	 * The sorted attributes and hash code, computed on demand and discarded on every modification.
+	 */
+	private transient Canonical canonical;
+
 	public Key() {
 		this.attributes = new TreeSet<>(new AttributeCollator());
 	}
@@ -26,26 +31,55 @@ public Key(Collection<String> attributes) {
 
 	@Override
 	public boolean equals(Object obj) {
-		if (obj == null) {
-			return false;
+		if (this == obj) {
+			return true;
 		}
 
 		if (!(obj instanceof Key)) {
 			return false;
 		}
 
-		Key key = (Key)obj;
+		Canonical mine = this.canonical();
+		Canonical theirs = ((Key)obj).canonical();
 
-		if (!(key.getAttributes().containsAll(this.attributes))){
-			return false;
-		}
-
-        return this.attributes.containsAll(key.getAttributes());
-    }
+		return mine.hash() == theirs.hash() && Arrays.equals(mine.attributes(), theirs.attributes());
+	}
 
+	/**
+	 * Returns the same value as <code>Objects.hash(attributes)</code>, which is cached until this <code>Key</code> is
+	 * modified.
+	 * @return The hash code of this <code>Key</code>
+	 */
 	@Override
 	public int hashCode() {
-		return Objects.hash(attributes);
+		return this.canonical().hash();
+	}
+
+	/**
+	 * Returns the cached, collator-sorted attributes of this <code>Key</code>, which must not be modified.
+	 */
+	String[] sortedAttributes() {
+		return this.canonical().attributes();
+	}
+
+	private Canonical canonical() {
+		Canonical current = this.canonical;
+		if (current == null) {
+			String[] sorted = this.attributes.toArray(new String[0]);
+			int hash = 0;
+			for (String attribute : sorted) {
+				hash += attribute.hashCode();
+			}
+			current = new Canonical(sorted, 31 + hash);
+			this.canonical = current;
+		}
+		return current;
+	}
+
+	/**
+	 * The collator-sorted attributes and the hash code of a <code>Key</code>.
+	 */
+	private record Canonical(String[] attributes, int hash) {
 	}
 
 	@Override
@@ -67,6 +101,7 @@ public Set<String> getAttributes() {
 
 	public boolean addAttribute(String attribute) {
 		if (attribute != null) {
+			this.canonical = null;
 			return this.attributes.add(attribute);
 		} else {
 			return false;
@@ -82,6 +117,7 @@ public void addAllAttributes(Collection<String> attributes){
 	}
 
 	public boolean removeAttribute(String attribute) {
+		this.canonical = null;
 		return this.attributes.remove(attribute);
 	}
 
@@ -1,7 +1,6 @@
 package at.jku.dke.task_app.fanf.evaluation.model;
 
 import java.io.Serializable;
-import java.text.Collator;
 import java.util.Comparator;
 
 public class KeyComparator implements Comparator<Key>, Serializable{
@@ -11,10 +10,6 @@ public KeyComparator() {
 	}
 
 	public int compare(Key o1, Key o2) {
-		Key k1;
-		Key k2;
-		Collator ac;
-
 		if ((o1 == null) && (o2 == null)) {
 			return 0;
 		}
@@ -27,21 +22,21 @@ public int compare(Key o1, Key o2) {
 			return -1;
 		}
 
-        k1 = o1;
-		k2 = o2;
-		ac = Collator.getInstance();
+        String[] k1 = o1.sortedAttributes();
+		String[] k2 = o2.sortedAttributes();
 
-		if (k1.getAttributes().size() > k2.getAttributes().size()) {
+		if (k1.length > k2.length) {
 			return 1;
 		}
 
-		if (k1.getAttributes().size() < k2.getAttributes().size()) {
+		if (k1.length < k2.length) {
 			return -1;
 		}
 
-		for (int i = 0; i < k1.getAttributes().size(); i++) {
-			if (ac.compare(k1.getAttributes().toArray()[i], k2.getAttributes().toArray()[i]) != 0) {
-				return ac.compare(k1.getAttributes().toArray()[i], k2.getAttributes().toArray()[i]);
+		for (int i = 0; i < k1.length; i++) {
+			int result = AttributeCollator.collationKey(k1[i]).compareTo(AttributeCollator.collationKey(k2[i]));
+			if (result != 0) {
+				return result;
 			}
 		}
 
@@ -9,6 +9,7 @@ public class KeysContainer implements Serializable {
 	private Set<Key> minimalKeys;
 	private Set<Key> superKeys;
 	private Set<Key> partialKeys;
+	private AttributeClassification attributeClassification;
 
 
 	public KeysContainer() {
@@ -23,7 +24,9 @@ public void setMinimalKeys(Set<Key> minimalKeys) {
 
 	public Set<Key> getMinimalKeys() {
 		TreeSet<Key> ret = new TreeSet<>(new KeyComparator());
-		ret.addAll(minimalKeys);
+		if (minimalKeys != null) {
+			ret.addAll(minimalKeys);
+		}
 		return ret;
 	}
 
@@ -33,7 +36,9 @@ public void setSuperKeys(Set<Key> keys) {
 
 	public Set<Key> getSuperKeys() {
 		TreeSet<Key> ret = new TreeSet<>(new KeyComparator());
-		ret.addAll(superKeys);
+		if (superKeys != null) {
+			ret.addAll(superKeys);
+		}
 		return ret;
 	}
 
@@ -43,7 +48,22 @@ public void setPartialKeys(Set<Key> keys) {
 
 	public Set<Key> getPartialKeys() {
 		TreeSet<Key> ret = new TreeSet<>(new KeyComparator());
-		ret.addAll(partialKeys);
+		if (partialKeys != null) {
+			ret.addAll(partialKeys);
+		}
 		return ret;
 	}
+
+	public void setAttributeClassification(AttributeClassification attributeClassification) {
+		this.attributeClassification = attributeClassification;
+	}
+
+	/**
+	 * Returns the classification of the relation's attributes computed during the key search, which also tells the
+	 * size of the residual search space.
+	 * @return The <code>AttributeClassification</code>, or <code>null</code> if none was computed
+	 */
+	public AttributeClassification getAttributeClassification() {
+		return attributeClassification;
+	}
 }
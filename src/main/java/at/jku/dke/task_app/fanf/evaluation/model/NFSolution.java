@@ -0,0 +1,111 @@
+package at.jku.dke.task_app.fanf.evaluation.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The reference results of a task that do not depend on the submission (e.g., the minimal keys of the base relation),
+ * computed once when the task is created or updated so that they need not be recomputed for every submission.
+ * <br><br>
+ * Only the results required by the task's type are set; all others are <code>null</code>. Solutions of a version
+ * other than {@link #CURRENT_VERSION} are to be recomputed.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class NFSolution implements Serializable {
+
+	/**
+	 * The version of solutions computed by the current implementation, to be incremented whenever the contents or the
+	 * computation of a solution change.
+	 */
+	public static final int CURRENT_VERSION = 1;
+
+	private int version;
+	private Set<Key> minimalKeys;
+	private Set<FunctionalDependency> minimalCover;
+	private Set<String> attributeClosure;
+
+	public NFSolution() {
+		this.version = CURRENT_VERSION;
+		this.minimalKeys = null;
+		this.minimalCover = null;
+		this.attributeClosure = null;
+	}
+
+	public int getVersion() {
+		return this.version;
+	}
+
+	public void setVersion(int version) {
+		this.version = version;
+	}
+
+	/**
+	 * Tests whether this solution was computed by the current implementation.
+	 * @return Whether the version of this solution is {@link #CURRENT_VERSION}
+	 */
+	@JsonIgnore
+	public boolean isCurrent() {
+		return this.version == CURRENT_VERSION;
+	}
+
+	/**
+	 * Returns the minimal keys of the base relation (key and normal form determination).
+	 * @return The minimal keys, or <code>null</code> if they are not part of this solution
+	 */
+	public Set<Key> getMinimalKeys() {
+		if (this.minimalKeys == null) {
+			return null;
+		}
+
+		TreeSet<Key> ret = new TreeSet<>(new KeyComparator());
+		ret.addAll(this.minimalKeys);
+		return ret;
+	}
+
+	public void setMinimalKeys(Set<Key> minimalKeys) {
+		this.minimalKeys = minimalKeys;
+	}
+
+	/**
+	 * Returns a copy of the minimal cover of the functional dependencies of the base relation (minimal cover).
+	 * @return The minimal cover, or <code>null</code> if it is not part of this solution
+	 */
+	public Set<FunctionalDependency> getMinimalCover() {
+		if (this.minimalCover == null) {
+			return null;
+		}
+
+		Set<FunctionalDependency> ret = new HashSet<>();
+		for (FunctionalDependency dependency : this.minimalCover) {
+			ret.add(new FunctionalDependency(dependency.getLhsAttributes(), dependency.getRhsAttributes()));
+		}
+		return ret;
+	}
+
+	public void setMinimalCover(Set<FunctionalDependency> minimalCover) {
+		this.minimalCover = minimalCover;
+	}
+
+	/**
+	 * Returns the closure of the base attributes (attribute closure).
+	 * @return The attribute closure, or <code>null</code> if it is not part of this solution
+	 */
+	public Set<String> getAttributeClosure() {
+		if (this.attributeClosure == null) {
+			return null;
+		}
+
+		TreeSet<String> ret = new TreeSet<>(new AttributeCollator());
+		ret.addAll(this.attributeClosure);
+		return ret;
+	}
+
+	public void setAttributeClosure(Set<String> attributeClosure) {
+		this.attributeClosure = attributeClosure;
+	}
+}
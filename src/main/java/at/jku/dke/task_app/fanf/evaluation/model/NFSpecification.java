@@ -1,10 +1,24 @@
 package at.jku.dke.task_app.fanf.evaluation.model;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
 
 import java.io.Serializable;
 
+/**
+ * The specification of a task. Its JSON representation names the concrete type in the property <code>type</code>, so
+ * that it can be read in a single pass without knowing the type of the task.
+ */
 @JsonInclude(JsonInclude.Include.NON_EMPTY)
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.PROPERTY, property = "type")
+@JsonSubTypes({
+	@JsonSubTypes.Type(value = KeysDeterminationSpecification.class, name = "keysDetermination"),
+	@JsonSubTypes.Type(value = NormalizationSpecification.class, name = "normalization"),
+	@JsonSubTypes.Type(value = MinimalCoverSpecification.class, name = "minimalCover"),
+	@JsonSubTypes.Type(value = AttributeClosureSpecification.class, name = "attributeClosure"),
+	@JsonSubTypes.Type(value = NormalformDeterminationSpecification.class, name = "normalformDetermination")
+})
 public abstract class NFSpecification implements Serializable, Cloneable, HasSemanticEquality {
 	protected IdentifiedRelation baseRelation;
 
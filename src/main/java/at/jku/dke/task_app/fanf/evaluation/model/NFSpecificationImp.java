@@ -1,11 +0,0 @@
-package at.jku.dke.task_app.fanf.evaluation.model;
-
-public class NFSpecificationImp extends NFSpecification{
-
-    public NFSpecificationImp() {
-    }
-
-    public NFSpecificationImp(IdentifiedRelation baseRelation) {
-        super(baseRelation);
-    }
-}
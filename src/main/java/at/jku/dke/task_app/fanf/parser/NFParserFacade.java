@@ -0,0 +1,175 @@
+package at.jku.dke.task_app.fanf.parser;
+
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+
+import java.util.function.Function;
+
+/**
+ * Parses inputs with a lexer and parser reused by the current thread, in two stages:
+ * <ol>
+ *     <li>The input is parsed with SLL prediction, bailing out at the first syntax error. This suffices for almost all
+ *     syntactically valid inputs and is considerably faster than full LL prediction.</li>
+ *     <li>Only if the first stage fails is the input parsed again with full LL prediction and the default error
+ *     recovery, reporting every syntax error to the supplied <code>NFParserErrorCollector</code>.</li>
+ * </ol>
+ * The DFA caches of the generated lexer and parser are static, so they are shared by all threads anyway.
+ * <br><br>
+ * Results of the parsed rules must be extracted by the supplied function rather than kept as parse tree, as the lexer
+ * and parser are reset for the next input.
+ * <br><br>
+ * Rules supplied as {@link NFRule} are first parsed by the hand-written {@link NFSubmissionParser}, which does without
+ * tokens and parse trees. The generated parser remains the reference: It only takes over if the hand-written parser
+ * rejects the input, so that syntax errors are still reported exactly as before.
+ */
+public class NFParserFacade {
+
+    private static final ThreadLocal<NFParserFacade> INSTANCES = ThreadLocal.withInitial(NFParserFacade::new);
+
+    private final NFLexer lexer;
+    private final CommonTokenStream tokens;
+    private final NFParser parser;
+    private final BailErrorStrategy bailErrorStrategy;
+    private final LexerErrorListener lexerErrorListener;
+    private final NFSubmissionParser submissionParser;
+    private boolean parsing;
+
+    private NFParserFacade() {
+        this.lexer = new NFLexer(CharStreams.fromString(""));
+        this.tokens = new CommonTokenStream(this.lexer);
+        this.parser = new NFParser(this.tokens);
+        this.bailErrorStrategy = new BailErrorStrategy();
+        this.lexerErrorListener = new LexerErrorListener();
+        this.submissionParser = new NFSubmissionParser();
+    }
+
+    /**
+     * Parses the supplied input, trying the hand-written parser before the generated one.
+     *
+     * @param input          The input
+     * @param rule           The rule to be parsed
+     * @param errorCollector The <code>NFParserErrorCollector</code> to collect any syntax errors
+     * @param <T>            The type of the result
+     * @return The result of the rule, which may be incomplete if syntax errors were collected
+     */
+    public static <T> T parse(String input, NFRule<T> rule, NFParserErrorCollector errorCollector) {
+        NFParserFacade facade = acquire();
+        try {
+            try {
+                return rule.parseHandWritten(facade.submissionParser, input);
+            } catch (NFSubmissionParser.SyntaxError e) {
+                // Let the generated parser report the syntax errors below.
+            }
+            return facade.parseInTwoStages(input, rule.getGenerated(), errorCollector);
+        } finally {
+            facade.parsing = false;
+        }
+    }
+
+    /**
+     * Parses the supplied input with the hand-written parser only, which is cheap, but does not report syntax errors.
+     *
+     * @param input The input
+     * @param rule  The rule to be parsed
+     * @param <T>   The type of the result
+     * @return The result of the rule, or <code>null</code> if the input is not syntactically valid
+     */
+    public static <T> T tryParse(String input, NFRule<T> rule) {
+        NFParserFacade facade = acquire();
+        try {
+            return rule.parseHandWritten(facade.submissionParser, input);
+        } catch (NFSubmissionParser.SyntaxError e) {
+            return null;
+        } finally {
+            facade.parsing = false;
+        }
+    }
+
+    /**
+     * Parses the supplied input with the generated parser only.
+     *
+     * @param input          The input
+     * @param rule           The function invoking the rule to be parsed and extracting its result
+     * @param errorCollector The <code>NFParserErrorCollector</code> to collect any syntax errors
+     * @param <T>            The type of the result
+     * @return The result extracted by <code>rule</code>, which may be incomplete if syntax errors were collected
+     */
+    public static <T> T parse(String input, Function<NFParser, T> rule, NFParserErrorCollector errorCollector) {
+        NFParserFacade facade = acquire();
+        try {
+            return facade.parseInTwoStages(input, rule, errorCollector);
+        } finally {
+            facade.parsing = false;
+        }
+    }
+
+    /**
+     * Returns the instance of the current thread, marked as parsing.
+     */
+    private static NFParserFacade acquire() {
+        NFParserFacade facade = INSTANCES.get();
+        if (facade.parsing) {
+            // Not expected to happen, as rule actions do not parse, but a reentrant call must not reset the parser in use.
+            facade = new NFParserFacade();
+        }
+
+        facade.parsing = true;
+        return facade;
+    }
+
+    private <T> T parseInTwoStages(String input, Function<NFParser, T> rule, NFParserErrorCollector errorCollector) {
+        this.lexerErrorListener.errors = false;
+        this.lexer.removeErrorListeners();
+        this.lexer.addErrorListener(this.lexerErrorListener);
+        this.parser.removeErrorListeners();
+        this.parser.setErrorHandler(this.bailErrorStrategy);
+        this.parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        reset(input);
+
+        try {
+            T result = rule.apply(this.parser);
+            if (!this.lexerErrorListener.errors) {
+                return result;
+            }
+        } catch (ParseCancellationException e) {
+            // Fall back to full LL prediction below.
+        }
+
+        // Source for adding to lexer: https://groups.google.com/g/antlr-discussion/c/FfiwtHCrgc0/m/_5wwPD3tK04J (Gerald Wimmer, 2024-01-21).
+        this.lexer.removeErrorListeners();
+        this.lexer.addErrorListener(ConsoleErrorListener.INSTANCE);
+        this.lexer.addErrorListener(errorCollector);
+        this.parser.removeErrorListeners();
+        this.parser.addErrorListener(ConsoleErrorListener.INSTANCE);
+        this.parser.addErrorListener(errorCollector);
+        // Not reused, as resetting it keeps the context of its last sync, which would end up in the next error message.
+        this.parser.setErrorHandler(new DefaultErrorStrategy());
+        this.parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        reset(input);
+
+        return rule.apply(this.parser);
+    }
+
+    /**
+     * Resets the lexer, token stream, parser and its error strategy to the start of the supplied input.
+     */
+    private void reset(String input) {
+        this.lexer.setInputStream(CharStreams.fromString(input));
+        this.tokens.setTokenSource(this.lexer);
+        this.parser.setTokenStream(this.tokens);
+    }
+
+    /**
+     * Records whether the lexer encountered any syntax errors, which it recovers from without failing the first stage.
+     */
+    private static class LexerErrorListener extends BaseErrorListener {
+
+        private boolean errors;
+
+        @Override
+        public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine, String msg, RecognitionException e) {
+            this.errors = true;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package at.jku.dke.task_app.fanf.parser;
+
+import at.jku.dke.task_app.fanf.evaluation.model.FunctionalDependency;
+import at.jku.dke.task_app.fanf.evaluation.model.IdentifiedRelation;
+import at.jku.dke.task_app.fanf.evaluation.model.Key;
+import at.jku.dke.task_app.fanf.evaluation.model.NormalformDeterminationSubmission;
+import at.jku.dke.task_app.fanf.evaluation.model.NormalformLevel;
+
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A start rule of <code>NF.g4</code> that can be parsed by {@link NFParserFacade#parse(String, NFRule, NFParserErrorCollector)},
+ * combining the hand-written {@link NFSubmissionParser} with the generated {@link NFParser} as reference and fallback.
+ *
+ * @param <T> The type of the result of the rule
+ */
+public final class NFRule<T> {
+
+    public static final NFRule<Set<IdentifiedRelation>> RELATION_SET_SUBMISSION = new NFRule<>(
+        NFSubmissionParser::relationSetSubmission, parser -> parser.relationSetSubmission().relations);
+
+    public static final NFRule<Set<Key>> KEY_SET_SUBMISSION = new NFRule<>(
+        NFSubmissionParser::keySetSubmission, parser -> parser.keySetSubmission().keys);
+
+    public static final NFRule<NormalformDeterminationSubmission> NORMAL_FORM_SUBMISSION = new NFRule<>(
+        NFSubmissionParser::normalFormSubmission, parser -> parser.normalFormSubmission().submission);
+
+    public static final NFRule<NormalformLevel> NORMAL_FORM_SPECIFICATION = new NFRule<>(
+        NFSubmissionParser::normalFormSpecification, parser -> parser.normalFormSpecification().level);
+
+    public static final NFRule<Set<FunctionalDependency>> FUNCTIONAL_DEPENDENCY_SET_SUBMISSION = new NFRule<>(
+        NFSubmissionParser::functionalDependencySetSubmission, parser -> parser.functionalDependencySetSubmission().functionalDependencies);
+
+    public static final NFRule<Set<String>> ATTRIBUTE_SET_SUBMISSION = new NFRule<>(
+        NFSubmissionParser::attributeSetSubmission, parser -> parser.attributeSetSubmission().attributes);
+
+    private final BiFunction<NFSubmissionParser, CharSequence, T> handWritten;
+    private final Function<NFParser, T> generated;
+
+    private NFRule(BiFunction<NFSubmissionParser, CharSequence, T> handWritten, Function<NFParser, T> generated) {
+        this.handWritten = handWritten;
+        this.generated = generated;
+    }
+
+    /**
+     * Parses the supplied input with the hand-written parser.
+     *
+     * @param parser The hand-written parser.
+     * @param input  The input.
+     * @return The result of the rule.
+     * @throws NFSubmissionParser.SyntaxError If the input is not valid.
+     */
+    T parseHandWritten(NFSubmissionParser parser, CharSequence input) {
+        return this.handWritten.apply(parser, input);
+    }
+
+    /**
+     * Gets the function invoking the rule on the generated parser and extracting its result.
+     *
+     * @return The function invoking the rule.
+     */
+    Function<NFParser, T> getGenerated() {
+        return this.generated;
+    }
+}
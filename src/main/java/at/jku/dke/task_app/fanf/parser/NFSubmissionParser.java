@@ -0,0 +1,350 @@
+package at.jku.dke.task_app.fanf.parser;
+
+import at.jku.dke.task_app.fanf.evaluation.model.FunctionalDependency;
+import at.jku.dke.task_app.fanf.evaluation.model.IdentifiedRelation;
+import at.jku.dke.task_app.fanf.evaluation.model.Key;
+import at.jku.dke.task_app.fanf.evaluation.model.NormalformDeterminationSubmission;
+import at.jku.dke.task_app.fanf.evaluation.model.NormalformLevel;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A hand-written recursive-descent parser for the start rules of <code>NF.g4</code>, which scans the input in place
+ * instead of creating tokens and parse trees.
+ * <br><br>
+ * It only handles syntactically valid inputs: The results equal those of the rule actions of the generated
+ * {@link NFParser}, and sets are populated in the same order, so that even iteration orders match. On the first
+ * deviation from the grammar (including characters the {@link NFLexer} would not accept), it gives up by throwing
+ * {@link SyntaxError}, leaving it to the generated parser to report the syntax errors.
+ * <br><br>
+ * Attribute names are interned for the duration of a parse, so that every distinct name is copied out of the input
+ * only once. Instances are not thread-safe, but may be reused for consecutive inputs.
+ */
+final class NFSubmissionParser {
+
+    /**
+     * The capacity of the name table an instance keeps between parses. Larger tables are discarded after the parse.
+     */
+    private static final int RETAINED_NAME_TABLE_CAPACITY = 256;
+
+    private CharSequence input;
+    private int position;
+    private String[] names;
+    private int nameCount;
+
+    NFSubmissionParser() {
+        this.names = new String[RETAINED_NAME_TABLE_CAPACITY];
+    }
+
+    Set<IdentifiedRelation> relationSetSubmission(CharSequence input) {
+        reset(input);
+        Set<IdentifiedRelation> relations = new HashSet<>();
+        relations.add(relation());
+        while (accept(';')) {
+            relations.add(relation());
+        }
+        expectEnd();
+        return relations;
+    }
+
+    Set<Key> keySetSubmission(CharSequence input) {
+        reset(input);
+        Set<Key> keys = new HashSet<>();
+        keys.addAll(keySet());
+        expectEnd();
+        return keys;
+    }
+
+    NormalformDeterminationSubmission normalFormSubmission(CharSequence input) {
+        reset(input);
+        NormalformDeterminationSubmission submission = new NormalformDeterminationSubmission();
+        submission.setOverallLevel(normalForm());
+        expect('.');
+        if (startsAttribute()) {
+            Map<FunctionalDependency, NormalformLevel> violations = new HashMap<>();
+            do {
+                FunctionalDependency dependency = functionalDependency();
+                expect(':');
+                violations.put(dependency, normalForm());
+            } while (accept(';'));
+            submission.setNormalformViolations(violations);
+        }
+        expectEnd();
+        return submission;
+    }
+
+    NormalformLevel normalFormSpecification(CharSequence input) {
+        reset(input);
+        NormalformLevel level = normalForm();
+        expectEnd();
+        return level;
+    }
+
+    Set<FunctionalDependency> functionalDependencySetSubmission(CharSequence input) {
+        reset(input);
+        Set<FunctionalDependency> functionalDependencies = new HashSet<>();
+        functionalDependencies.addAll(functionalDependencySet());
+        expectEnd();
+        return functionalDependencies;
+    }
+
+    Set<String> attributeSetSubmission(CharSequence input) {
+        reset(input);
+        Set<String> attributes = new HashSet<>();
+        attributes.addAll(attributeSet());
+        expectEnd();
+        return attributes;
+    }
+
+    private IdentifiedRelation relation() {
+        IdentifiedRelation relation = new IdentifiedRelation();
+        relation.setID(attribute());
+        expect(':');
+        expect('(');
+        relation.setAttributes(attributeSet());
+        expect(')');
+        expectArrow();
+        expect('(');
+        if (startsAttribute()) {
+            relation.setFunctionalDependencies(functionalDependencySet());
+        }
+        expect(')');
+        expect('#');
+        expect('(');
+        relation.setMinimalKeys(keySet());
+        expect(')');
+        return relation;
+    }
+
+    private Set<Key> keySet() {
+        Set<Key> keys = new HashSet<>();
+        do {
+            Key key = new Key();
+            key.addAllAttributes(attributeSet());
+            keys.add(key);
+        } while (accept(';'));
+        return keys;
+    }
+
+    private Set<FunctionalDependency> functionalDependencySet() {
+        Set<FunctionalDependency> functionalDependencies = new HashSet<>();
+        do {
+            functionalDependencies.add(functionalDependency());
+        } while (accept(';'));
+        return functionalDependencies;
+    }
+
+    private FunctionalDependency functionalDependency() {
+        FunctionalDependency dependency = new FunctionalDependency();
+        dependency.setLhsAttributes(attributeSet());
+        expectArrow();
+        dependency.setRhsAttributes(attributeSet());
+        return dependency;
+    }
+
+    private Set<String> attributeSet() {
+        Set<String> attributes = new HashSet<>();
+        do {
+            attributes.add(attribute());
+        } while (accept(','));
+        return attributes;
+    }
+
+    /**
+     * Scans an <code>AlphaNumericChain</code>. A chain spelling the literal <code>BCNF</code> is lexed as the literal,
+     * so it is rejected.
+     */
+    private String attribute() {
+        skipWhiteSpace();
+        int start = this.position;
+        if (!startsAttribute()) {
+            throw SyntaxError.INSTANCE;
+        }
+        int end = start + 1;
+        while (end < this.input.length() && isChainPart(this.input.charAt(end))) {
+            end++;
+        }
+        this.position = end;
+        if (isBoyceCodd(start, end)) {
+            throw SyntaxError.INSTANCE;
+        }
+        return intern(start, end);
+    }
+
+    /**
+     * Scans one of the literals <code>1NF</code>, <code>2NF</code>, <code>3NF</code> and <code>BCNF</code>, rejecting
+     * anything the lexer would turn into an <code>Integer</code> or <code>AlphaNumericChain</code> instead.
+     */
+    private NormalformLevel normalForm() {
+        skipWhiteSpace();
+        int start = this.position;
+        if (startsAttribute()) {
+            int end = start + 1;
+            while (end < this.input.length() && isChainPart(this.input.charAt(end))) {
+                end++;
+            }
+            if (!isBoyceCodd(start, end)) {
+                throw SyntaxError.INSTANCE;
+            }
+            this.position = end;
+            return NormalformLevel.BOYCE_CODD;
+        }
+
+        if (start + 3 > this.input.length() || this.input.charAt(start + 1) != 'N' || this.input.charAt(start + 2) != 'F') {
+            throw SyntaxError.INSTANCE;
+        }
+        NormalformLevel level = switch (this.input.charAt(start)) {
+            case '1' -> NormalformLevel.FIRST;
+            case '2' -> NormalformLevel.SECOND;
+            case '3' -> NormalformLevel.THIRD;
+            default -> throw SyntaxError.INSTANCE;
+        };
+        this.position = start + 3;
+        return level;
+    }
+
+    private boolean isBoyceCodd(int start, int end) {
+        return end - start == 4
+            && this.input.charAt(start) == 'B'
+            && this.input.charAt(start + 1) == 'C'
+            && this.input.charAt(start + 2) == 'N'
+            && this.input.charAt(start + 3) == 'F';
+    }
+
+    private boolean startsAttribute() {
+        skipWhiteSpace();
+        return this.position < this.input.length() && isLetter(this.input.charAt(this.position));
+    }
+
+    private boolean accept(char c) {
+        skipWhiteSpace();
+        if (this.position < this.input.length() && this.input.charAt(this.position) == c) {
+            this.position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(char c) {
+        if (!accept(c)) {
+            throw SyntaxError.INSTANCE;
+        }
+    }
+
+    private void expectArrow() {
+        expect('-');
+        // No white space is allowed within the literal.
+        if (this.position >= this.input.length() || this.input.charAt(this.position) != '>') {
+            throw SyntaxError.INSTANCE;
+        }
+        this.position++;
+    }
+
+    private void expectEnd() {
+        skipWhiteSpace();
+        if (this.position != this.input.length()) {
+            throw SyntaxError.INSTANCE;
+        }
+    }
+
+    private void skipWhiteSpace() {
+        while (this.position < this.input.length()) {
+            char c = this.input.charAt(this.position);
+            if (c != ' ' && c != '\r' && c != '\t' && c != '\n') {
+                return;
+            }
+            this.position++;
+        }
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    private static boolean isChainPart(char c) {
+        return isLetter(c) || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    private void reset(CharSequence input) {
+        this.input = input;
+        this.position = 0;
+        if (this.names.length > RETAINED_NAME_TABLE_CAPACITY) {
+            this.names = new String[RETAINED_NAME_TABLE_CAPACITY];
+        } else if (this.nameCount > 0) {
+            Arrays.fill(this.names, null);
+        }
+        this.nameCount = 0;
+    }
+
+    /**
+     * Returns the name spelled by the supplied range of the input, which is only copied if it is not yet in the name
+     * table. The table is open-addressed with linear probing and kept at most half full.
+     */
+    private String intern(int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + this.input.charAt(i);
+        }
+
+        int mask = this.names.length - 1;
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        for (String name = this.names[slot]; name != null; name = this.names[slot]) {
+            if (name.hashCode() == hash && spells(name, start, end)) {
+                return name;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        String name = this.input.subSequence(start, end).toString();
+        this.names[slot] = name;
+        if (++this.nameCount > this.names.length / 2) {
+            rehash();
+        }
+        return name;
+    }
+
+    private boolean spells(String name, int start, int end) {
+        if (name.length() != end - start) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) != this.input.charAt(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void rehash() {
+        String[] oldNames = this.names;
+        this.names = new String[oldNames.length * 2];
+        int mask = this.names.length - 1;
+        for (String name : oldNames) {
+            if (name != null) {
+                int hash = name.hashCode();
+                int slot = (hash ^ (hash >>> 16)) & mask;
+                while (this.names[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                this.names[slot] = name;
+            }
+        }
+    }
+
+    /**
+     * Signals that the input deviates from the grammar. It carries no information, as the generated parser reports the
+     * syntax errors, so a single instance without stack trace is shared.
+     */
+    static final class SyntaxError extends RuntimeException {
+
+        private static final SyntaxError INSTANCE = new SyntaxError();
+
+        private SyntaxError() {
+            super(null, null, false, false);
+        }
+    }
+}
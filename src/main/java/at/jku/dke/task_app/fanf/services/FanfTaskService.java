@@ -7,14 +7,16 @@
 import at.jku.dke.task_app.fanf.data.repositories.FanfTaskRepository;
 import at.jku.dke.task_app.fanf.description_generation.DescriptionGeneration;
 import at.jku.dke.task_app.fanf.dto.ModifyFanfTaskDto;
+import at.jku.dke.task_app.fanf.evaluation.SolutionDeterminator;
+import at.jku.dke.task_app.fanf.evaluation.algorithms.ProjectionCache;
 import at.jku.dke.task_app.fanf.evaluation.model.*;
-import at.jku.dke.task_app.fanf.parser.NFLexer;
-import at.jku.dke.task_app.fanf.parser.NFParser;
 import at.jku.dke.task_app.fanf.parser.NFParserErrorCollector;
+import at.jku.dke.task_app.fanf.parser.NFParserFacade;
+import at.jku.dke.task_app.fanf.parser.NFRule;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.ObjectWriter;
-import org.antlr.v4.runtime.*;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.MessageSource;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -30,26 +32,39 @@
 public class FanfTaskService extends BaseTaskService<FanfTask, ModifyFanfTaskDto> {
 
     private final MessageSource messageSource;
+    private final ObjectReader specificationReader;
+    private final ObjectWriter specificationWriter;
+    private final ObjectWriter solutionWriter;
 
     /**
      * Creates a new instance of class {@link FanfTaskService}.
      *
-     * @param repository    The task repository.
-     * @param messageSource The message source.
+     * @param repository          The task repository.
+     * @param messageSource       The message source.
+     * @param specificationReader The reader of task specifications.
+     * @param specificationWriter The writer of task specifications.
+     * @param solutionWriter      The writer of task solutions.
      */
-    public FanfTaskService(FanfTaskRepository repository, MessageSource messageSource) {
+    public FanfTaskService(FanfTaskRepository repository, MessageSource messageSource,
+                           @Qualifier("specificationReader") ObjectReader specificationReader,
+                           @Qualifier("specificationWriter") ObjectWriter specificationWriter,
+                           @Qualifier("solutionWriter") ObjectWriter solutionWriter) {
         super(repository);
         this.messageSource = messageSource;
+        this.specificationReader = specificationReader;
+        this.specificationWriter = specificationWriter;
+        this.solutionWriter = solutionWriter;
     }
 
     @Override
     protected FanfTask createTask(long id, ModifyTaskDto<ModifyFanfTaskDto> modifyTaskDto) {
         if (!modifyTaskDto.taskType().equals("fanf"))
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid task type.");
-        String specification = convertToJSONString(modifyTaskDto.additionalData());
+        NFSpecification specification = createSpecification(modifyTaskDto.additionalData());
 
-
-        return new FanfTask(specification, modifyTaskDto.additionalData().getSubtype());
+        FanfTask task = new FanfTask(convertToJSONString(specification), modifyTaskDto.additionalData().getSubtype());
+        task.setSolution(determineSolutionJSONString(specification));
+        return task;
     }
 
 
@@ -57,52 +72,40 @@ protected FanfTask createTask(long id, ModifyTaskDto<ModifyFanfTaskDto> modifyTa
     protected void updateTask(FanfTask task, ModifyTaskDto<ModifyFanfTaskDto> modifyTaskDto) {
         if (!modifyTaskDto.taskType().equals("fanf"))
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid task type.");
-        String specification = convertToJSONString(modifyTaskDto.additionalData());
+        NFSpecification specification = createSpecification(modifyTaskDto.additionalData());
 
-        task.setSpecification(specification);
+        invalidateCachedProjections(task);
+        task.setSpecification(convertToJSONString(specification));
         task.setRdbdType(modifyTaskDto.additionalData().getSubtype());
+        task.setSolution(determineSolutionJSONString(specification));
 
     }
 
     @Override
     protected TaskModificationResponseDto mapToReturnData(FanfTask task, boolean create) {
-        ObjectMapper objectMapper = new ObjectMapper();
+        NFSpecification specification;
+        try {
+            specification = specificationReader.readValue(task.getSpecification());
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+
         switch (task.getRdbdType())
         {
             case 0 -> {
-                try {
-                    return DescriptionGeneration.printAssignmentForKeysDetermination(objectMapper.readValue(task.getSpecification(),KeysDeterminationSpecification.class).getBaseRelation(), 0);
-                } catch (JsonProcessingException e) {
-                    throw new RuntimeException(e);
-                }
+                return DescriptionGeneration.printAssignmentForKeysDetermination(specification.getBaseRelation(), 0);
             }
             case 1 -> {
-                try {
-                    return DescriptionGeneration.printAssignmentForNormalization(objectMapper.readValue(task.getSpecification(),NormalizationSpecification.class), 0);
-                } catch (JsonProcessingException e) {
-                    throw new RuntimeException(e);
-                }
+                return DescriptionGeneration.printAssignmentForNormalization((NormalizationSpecification) specification, 0);
             }
             case 2 -> {
-                try {
-                    return DescriptionGeneration.printAssignmentForMinimalCover(objectMapper.readValue(task.getSpecification(), MinimalCoverSpecification.class).getBaseRelation(), 0);
-                } catch (JsonProcessingException e) {
-                    throw new RuntimeException(e);
-                }
+                return DescriptionGeneration.printAssignmentForMinimalCover(specification.getBaseRelation(), 0);
             }
             case 3 -> {
-                try {
-                    return DescriptionGeneration.printAssignmentForAttributeClosure(objectMapper.readValue(task.getSpecification(),AttributeClosureSpecification.class), 0);
-                } catch (JsonProcessingException e) {
-                    throw new RuntimeException(e);
-                }
+                return DescriptionGeneration.printAssignmentForAttributeClosure((AttributeClosureSpecification) specification, 0);
             }
             case 4 -> {
-                try {
-                    return DescriptionGeneration.printAssignmentForNormalFormDetermination(objectMapper.readValue(task.getSpecification(),NormalformDeterminationSpecification.class).getBaseRelation(), 0);
-                } catch (JsonProcessingException e) {
-                    throw new RuntimeException(e);
-                }
+                return DescriptionGeneration.printAssignmentForNormalFormDetermination(specification.getBaseRelation(), 0);
             }
         }
         return null;
@@ -111,7 +114,55 @@ protected TaskModificationResponseDto mapToReturnData(FanfTask task, boolean cre
 
 
 
-    private String convertToJSONString(ModifyFanfTaskDto dto) {
+    /**
+     * Determines the solution of the supplied specification, so that it need not be recomputed for every submission.
+     *
+     * @param specification The specification.
+     * @return The JSON representation of the specification's {@link NFSolution}.
+     */
+    private String determineSolutionJSONString(NFSpecification specification) {
+        try {
+            return solutionWriter.writeValueAsString(SolutionDeterminator.determine(specification));
+        } catch (JsonProcessingException jp) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Could not determine the solution of the exercise specification because: " + jp.getMessage());
+        }
+    }
+
+    /**
+     * Removes the cached projections of the base relation of the supplied task's current specification.
+     *
+     * @param task The task whose specification is about to change.
+     */
+    private void invalidateCachedProjections(FanfTask task) {
+        if (task.getSpecification() == null)
+            return;
+
+        try {
+            IdentifiedRelation baseRelation = specificationReader.<NFSpecification>readValue(task.getSpecification()).getBaseRelation();
+            if (baseRelation != null)
+                ProjectionCache.getShared().invalidate(baseRelation);
+        } catch (JsonProcessingException e) {
+            // The entries of an unreadable specification cannot be identified, so all of them are dropped.
+            ProjectionCache.getShared().clear();
+        }
+    }
+
+    /**
+     * Converts the supplied specification to its JSON representation.
+     *
+     * @param specification The specification.
+     * @return The JSON representation of the specification.
+     */
+    private String convertToJSONString(NFSpecification specification) {
+        try {
+            return specificationWriter.writeValueAsString(specification);
+        } catch (JsonProcessingException jp) {
+            jp.printStackTrace();
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Could not generate JSON for exercise specification because: " + jp.getMessage());
+        }
+    }
+
+    private NFSpecification createSpecification(ModifyFanfTaskDto dto) {
         IdentifiedRelation baseRelation = new IdentifiedRelation();
 
         baseRelation.setName(dto.getBaseRelationName());
@@ -119,9 +170,7 @@ private String convertToJSONString(ModifyFanfTaskDto dto) {
 
         NFParserErrorCollector errorCollector = new NFParserErrorCollector();
 
-        NFParser baseAttributesParser = getParser(dto.getBaseRelationAttributes(), errorCollector);
-
-        Set<String> baseAttributes = baseAttributesParser.attributeSetSubmission().attributes;
+        Set<String> baseAttributes = NFParserFacade.parse(dto.getBaseRelationAttributes(), NFRule.ATTRIBUTE_SET_SUBMISSION, errorCollector);
 
         if (!errorCollector.getSyntaxErrors().isEmpty()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Syntax error(s) in base attributes: " + errorCollector.getStringOfAllErrors());
@@ -130,9 +179,7 @@ private String convertToJSONString(ModifyFanfTaskDto dto) {
         baseRelation.setAttributes(baseAttributes);
 
         if (!dto.getBaseRelationDependencies().isBlank()) {
-            NFParser baseDependenciesParser = getParser(dto.getBaseRelationDependencies(), errorCollector);
-
-            Set<FunctionalDependency> baseDependencies = baseDependenciesParser.functionalDependencySetSubmission().functionalDependencies;
+            Set<FunctionalDependency> baseDependencies = NFParserFacade.parse(dto.getBaseRelationDependencies(), NFRule.FUNCTIONAL_DEPENDENCY_SET_SUBMISSION, errorCollector);
 
             if (!errorCollector.getSyntaxErrors().isEmpty()) {
                 throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Syntax error(s) in base dependencies: " + errorCollector.getStringOfAllErrors());
@@ -141,119 +188,85 @@ private String convertToJSONString(ModifyFanfTaskDto dto) {
             baseRelation.setFunctionalDependencies(baseDependencies);
         }
 
-        // source: https://stackoverflow.com/a/15786175 (Gerald Wimmer, 2024-01-05)
-        ObjectWriter objectWriter = new ObjectMapper().writer();
+        switch (dto.getSubtype()) {
+            case 0 -> {
+                KeysDeterminationSpecification specification = new KeysDeterminationSpecification();
+                specification.setBaseRelation(baseRelation);
 
-        try {
-            switch (dto.getSubtype()) {
-                case 0 -> {
-                    KeysDeterminationSpecification specification = new KeysDeterminationSpecification();
-                    specification.setBaseRelation(baseRelation);
+                specification.setPenaltyPerMissingKey((int) dto.getKeysDeterminationPenaltyPerMissingKey());
+                specification.setPenaltyPerIncorrectKey((int) dto.getKeysDeterminationPenaltyPerIncorrectKey());
 
-                    specification.setPenaltyPerMissingKey((int) dto.getKeysDeterminationPenaltyPerMissingKey());
-                    specification.setPenaltyPerIncorrectKey((int) dto.getKeysDeterminationPenaltyPerIncorrectKey());
+                return specification;
+            }
+            case 1 -> {
+                NormalformLevel targetLevel = NFParserFacade.parse(dto.getNormalizationTargetLevel(), NFRule.NORMAL_FORM_SPECIFICATION, errorCollector);
 
-                    return objectWriter.writeValueAsString(specification);
-                }
-                case 1 -> {
-                    NFParser targetLevelParser = getParser(dto.getNormalizationTargetLevel(), errorCollector);
-
-                    NormalformLevel targetLevel = targetLevelParser.normalFormSpecification().level;
-
-                    if (!errorCollector.getSyntaxErrors().isEmpty()) {
-                        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Syntax error(s) in target level: " + errorCollector.getStringOfAllErrors());
-                    }
-
-                    NormalizationSpecification specification = new NormalizationSpecification();
-                    specification.setBaseRelation(baseRelation);
-
-                    specification.setTargetLevel(targetLevel);
-                    specification.setMaxLostDependencies((int) dto.getNormalizationMaxLostDependencies());
-
-                    specification.setPenaltyPerLostAttribute((int) dto.getNormalizationPenaltyPerLostAttribute());
-                    specification.setPenaltyForLossyDecomposition((int) dto.getNormalizationPenaltyForLossyDecomposition());
-                    specification.setPenaltyPerNonCanonicalDependency((int) dto.getNormalizationPenaltyPerNonCanonicalDependency());
-                    specification.setPenaltyPerTrivialDependency((int) dto.getNormalizationPenaltyPerTrivialDependency());
-                    specification.setPenaltyPerExtraneousAttributeInDependencies((int) dto.getNormalizationPenaltyPerExtraneousAttributeInDependencies());
-                    specification.setPenaltyPerRedundantDependency((int) dto.getNormalizationPenaltyPerRedundantDependency());
-                    specification.setPenaltyPerExcessiveLostDependency((int) dto.getNormalizationPenaltyPerExcessiveLostDependency());
-                    specification.setPenaltyPerMissingNewDependency((int) dto.getNormalizationPenaltyPerMissingNewDependency());
-                    specification.setPenaltyPerIncorrectNewDependency((int) dto.getNormalizationPenaltyPerIncorrectNewDependency());
-                    specification.setPenaltyPerMissingKey((int) dto.getNormalizationPenaltyPerMissingKey());
-                    specification.setPenaltyPerIncorrectKey((int) dto.getNormalizationPenaltyPerIncorrectKey());
-                    specification.setPenaltyPerIncorrectNFRelation((int) dto.getNormalizationPenaltyPerIncorrectNFRelation());
-
-                    return objectWriter.writeValueAsString(specification);
-                }
-                case 2 -> {
-                    MinimalCoverSpecification specification = new MinimalCoverSpecification();
-                    specification.setBaseRelation(baseRelation);
-
-                    specification.setPenaltyPerNonCanonicalDependency((int) dto.getMinimalCoverPenaltyPerNonCanonicalDependency());
-                    specification.setPenaltyPerTrivialDependency((int) dto.getMinimalCoverPenaltyPerTrivialDependency());
-                    specification.setPenaltyPerExtraneousAttribute((int) dto.getMinimalCoverPenaltyPerExtraneousAttribute());
-                    specification.setPenaltyPerRedundantDependency((int) dto.getMinimalCoverPenaltyPerRedundantDependency());
-                    specification.setPenaltyPerMissingDependencyVsSolution((int) dto.getMinimalCoverPenaltyPerMissingDependencyVsSolution());
-                    specification.setPenaltyPerIncorrectDependencyVsSolution((int) dto.getMinimalCoverPenaltyPerIncorrectDependencyVsSolution());
-
-                    return objectWriter.writeValueAsString(specification);
+                if (!errorCollector.getSyntaxErrors().isEmpty()) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Syntax error(s) in target level: " + errorCollector.getStringOfAllErrors());
                 }
-                case 3 -> {
-                    NFParser acBaseAttributesParser = getParser(dto.getAttributeClosureBaseAttributes(), errorCollector);
 
-                    Set<String> acBaseAttributes = acBaseAttributesParser.attributeSetSubmission().attributes;
+                NormalizationSpecification specification = new NormalizationSpecification();
+                specification.setBaseRelation(baseRelation);
+
+                specification.setTargetLevel(targetLevel);
+                specification.setMaxLostDependencies((int) dto.getNormalizationMaxLostDependencies());
+
+                specification.setPenaltyPerLostAttribute((int) dto.getNormalizationPenaltyPerLostAttribute());
+                specification.setPenaltyForLossyDecomposition((int) dto.getNormalizationPenaltyForLossyDecomposition());
+                specification.setPenaltyPerNonCanonicalDependency((int) dto.getNormalizationPenaltyPerNonCanonicalDependency());
+                specification.setPenaltyPerTrivialDependency((int) dto.getNormalizationPenaltyPerTrivialDependency());
+                specification.setPenaltyPerExtraneousAttributeInDependencies((int) dto.getNormalizationPenaltyPerExtraneousAttributeInDependencies());
+                specification.setPenaltyPerRedundantDependency((int) dto.getNormalizationPenaltyPerRedundantDependency());
+                specification.setPenaltyPerExcessiveLostDependency((int) dto.getNormalizationPenaltyPerExcessiveLostDependency());
+                specification.setPenaltyPerMissingNewDependency((int) dto.getNormalizationPenaltyPerMissingNewDependency());
+                specification.setPenaltyPerIncorrectNewDependency((int) dto.getNormalizationPenaltyPerIncorrectNewDependency());
+                specification.setPenaltyPerMissingKey((int) dto.getNormalizationPenaltyPerMissingKey());
+                specification.setPenaltyPerIncorrectKey((int) dto.getNormalizationPenaltyPerIncorrectKey());
+                specification.setPenaltyPerIncorrectNFRelation((int) dto.getNormalizationPenaltyPerIncorrectNFRelation());
+
+                return specification;
+            }
+            case 2 -> {
+                MinimalCoverSpecification specification = new MinimalCoverSpecification();
+                specification.setBaseRelation(baseRelation);
 
-                    if (!errorCollector.getSyntaxErrors().isEmpty()) {
-                        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Syntax error(s) in attribute closure base attributes: " + errorCollector.getStringOfAllErrors());
-                    }
+                specification.setPenaltyPerNonCanonicalDependency((int) dto.getMinimalCoverPenaltyPerNonCanonicalDependency());
+                specification.setPenaltyPerTrivialDependency((int) dto.getMinimalCoverPenaltyPerTrivialDependency());
+                specification.setPenaltyPerExtraneousAttribute((int) dto.getMinimalCoverPenaltyPerExtraneousAttribute());
+                specification.setPenaltyPerRedundantDependency((int) dto.getMinimalCoverPenaltyPerRedundantDependency());
+                specification.setPenaltyPerMissingDependencyVsSolution((int) dto.getMinimalCoverPenaltyPerMissingDependencyVsSolution());
+                specification.setPenaltyPerIncorrectDependencyVsSolution((int) dto.getMinimalCoverPenaltyPerIncorrectDependencyVsSolution());
 
-                    AttributeClosureSpecification specification = new AttributeClosureSpecification();
-                    specification.setBaseRelation(baseRelation);
+                return specification;
+            }
+            case 3 -> {
+                Set<String> acBaseAttributes = NFParserFacade.parse(dto.getAttributeClosureBaseAttributes(), NFRule.ATTRIBUTE_SET_SUBMISSION, errorCollector);
 
-                    specification.setBaseAttributes(acBaseAttributes);
+                if (!errorCollector.getSyntaxErrors().isEmpty()) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Syntax error(s) in attribute closure base attributes: " + errorCollector.getStringOfAllErrors());
+                }
 
-                    specification.setPenaltyPerMissingAttribute((int) dto.getAttributeClosurePenaltyPerMissingAttribute());
-                    specification.setPenaltyPerIncorrectAttribute((int) dto.getAttributeClosurePenaltyPerIncorrectAttribute());
+                AttributeClosureSpecification specification = new AttributeClosureSpecification();
+                specification.setBaseRelation(baseRelation);
 
-                    return objectWriter.writeValueAsString(specification);
-                }
-                case 4 -> {
-                    NormalformDeterminationSpecification specification = new NormalformDeterminationSpecification();
-                    specification.setBaseRelation(baseRelation);
+                specification.setBaseAttributes(acBaseAttributes);
 
-                    specification.setPenaltyForIncorrectNFOverall((int) dto.getNormalFormDeterminationPenaltyForIncorrectOverallNormalform());
-                    specification.setPenaltyPerIncorrectNFDependency((int) dto.getNormalFormDeterminationPenaltyPerIncorrectDependencyNormalform());
+                specification.setPenaltyPerMissingAttribute((int) dto.getAttributeClosurePenaltyPerMissingAttribute());
+                specification.setPenaltyPerIncorrectAttribute((int) dto.getAttributeClosurePenaltyPerIncorrectAttribute());
 
-                    return objectWriter.writeValueAsString(specification);
-                }
-                default ->
-                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Could not generate JSON for exercise specification due to unrecognized task type \"" + dto.getSubtype() + "\".");
+                return specification;
             }
-        } catch (JsonProcessingException jp) {
-            jp.printStackTrace();
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Could not generate JSON for exercise specification because: " + jp.getMessage());
-        }
-    }
+            case 4 -> {
+                NormalformDeterminationSpecification specification = new NormalformDeterminationSpecification();
+                specification.setBaseRelation(baseRelation);
 
-    /**
-     * Creates a new <code>NFParser</code> instance from the supplied input <code>String</code> and with the
-     * supplied <code>NFParserErrorCollector</code>
-     *
-     * @param input          The <code>String</code> to serve as the parser input
-     * @param errorCollector The <code>NFParserErrorCollector</code> to collect any syntax errors
-     * @return A new <code>NFParser</code> object
-     */
-    private NFParser getParser(String input, NFParserErrorCollector errorCollector) {
-        // Source: https://datacadamia.com/antlr/getting_started (Gerald Wimmer, 2023-11-27)
-        CharStream lexerInput = CharStreams.fromString(input);
-        Lexer lexer = new NFLexer(lexerInput);
-        TokenStream parserInput = new CommonTokenStream(lexer);
-        NFParser parser = new NFParser(parserInput);
-
-        // Source for adding to lexer: https://groups.google.com/g/antlr-discussion/c/FfiwtHCrgc0/m/_5wwPD3tK04J (Gerald Wimmer, 2024-01-21).
-        lexer.addErrorListener(errorCollector);
-        parser.addErrorListener(errorCollector);
-
-        return parser;
+                specification.setPenaltyForIncorrectNFOverall((int) dto.getNormalFormDeterminationPenaltyForIncorrectOverallNormalform());
+                specification.setPenaltyPerIncorrectNFDependency((int) dto.getNormalFormDeterminationPenaltyPerIncorrectDependencyNormalform());
+
+                return specification;
+            }
+            default ->
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Could not generate JSON for exercise specification due to unrecognized task type \"" + dto.getSubtype() + "\".");
+        }
     }
 }
@@ -0,0 +1,2 @@
+-- add a column for the precomputed reference results of a task
+ALTER TABLE task ADD COLUMN solution JSONB;
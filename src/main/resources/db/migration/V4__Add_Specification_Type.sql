@@ -0,0 +1,10 @@
+-- add the name of the specification type to the specifications, which are read polymorphically
+UPDATE task
+SET specification = jsonb_set(specification, '{type}', CASE rdbd_type
+    WHEN 0 THEN '"keysDetermination"'::jsonb
+    WHEN 1 THEN '"normalization"'::jsonb
+    WHEN 2 THEN '"minimalCover"'::jsonb
+    WHEN 3 THEN '"attributeClosure"'::jsonb
+    WHEN 4 THEN '"normalformDetermination"'::jsonb
+    END)
+WHERE rdbd_type BETWEEN 0 AND 4;
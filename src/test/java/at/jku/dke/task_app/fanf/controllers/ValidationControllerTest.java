@@ -0,0 +1,119 @@
+package at.jku.dke.task_app.fanf.controllers;
+
+import at.jku.dke.task_app.fanf.dto.ValidationResultDto;
+import at.jku.dke.task_app.fanf.evaluation.EvaluationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests that {@link ValidationController} is protected by the same API key authentication as the submission endpoint.
+ */
+@SpringBootTest(properties = {
+    "clients.api-keys[0].name=task-administration",
+    "clients.api-keys[0].key=task-admin-key",
+    "clients.api-keys[0].roles[0]=CRUD",
+    "clients.api-keys[0].roles[1]=SUBMIT",
+    "clients.api-keys[1].name=jobe-server",
+    "clients.api-keys[1].key=jobe-server-key",
+    "clients.api-keys[1].roles[0]=SUBMIT",
+    "clients.api-keys[2].name=plag-check",
+    "clients.api-keys[2].key=plag-check-key",
+    "clients.api-keys[2].roles[0]=READ_SUBMISSION"
+})
+@AutoConfigureMockMvc
+@Testcontainers
+class ValidationControllerTest {
+
+    private static final String API_KEY_HEADER = "X-API-KEY";
+    private static final String INPUT = "{\"input\": \"A, B\"}";
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private EvaluationService evaluationService;
+
+    @Test
+    void validateWithoutApiKeyIsRejectedLikeSubmit() throws Exception {
+        int submissionStatus = statusOf(post("/api/submission"));
+        int validationStatus = statusOf(post("/api/validation/1"));
+
+        assertRejected(submissionStatus);
+        assertEquals(submissionStatus, validationStatus);
+        verify(this.evaluationService, never()).validate(anyLong(), anyString());
+    }
+
+    @Test
+    void validateWithUnknownApiKeyIsRejectedLikeSubmit() throws Exception {
+        int submissionStatus = statusOf(post("/api/submission").header(API_KEY_HEADER, "unknown-key"));
+        int validationStatus = statusOf(post("/api/validation/1").header(API_KEY_HEADER, "unknown-key"));
+
+        assertRejected(submissionStatus);
+        assertEquals(submissionStatus, validationStatus);
+        verify(this.evaluationService, never()).validate(anyLong(), anyString());
+    }
+
+    @Test
+    void validateWithoutSubmitRoleIsForbidden() throws Exception {
+        this.mockMvc.perform(post("/api/validation/1")
+                .header(API_KEY_HEADER, "plag-check-key")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(INPUT))
+            .andExpect(status().isForbidden());
+        verify(this.evaluationService, never()).validate(anyLong(), anyString());
+    }
+
+    @Test
+    void validateWithSubmitRoleIsAccepted() throws Exception {
+        when(this.evaluationService.validate(1, "A, B")).thenReturn(new ValidationResultDto(List.of(), List.of("A warning")));
+
+        this.mockMvc.perform(post("/api/validation/1")
+                .header(API_KEY_HEADER, "jobe-server-key")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(INPUT))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.syntaxErrors").isEmpty())
+            .andExpect(jsonPath("$.warnings[0]").value("A warning"));
+        verify(this.evaluationService).validate(1, "A, B");
+    }
+
+    private int statusOf(MockHttpServletRequestBuilder request) throws Exception {
+        return this.mockMvc.perform(request
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(INPUT))
+            .andReturn()
+            .getResponse()
+            .getStatus();
+    }
+
+    private static void assertRejected(int status) {
+        assertTrue(status == 401 || status == 403, () -> "Expected the request to be rejected, but got status " + status);
+    }
+}
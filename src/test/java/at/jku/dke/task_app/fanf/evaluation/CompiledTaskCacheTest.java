@@ -0,0 +1,71 @@
+package at.jku.dke.task_app.fanf.evaluation;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests when {@link CompiledTaskCache} serves a cached task and when it compiles the task anew.
+ */
+class CompiledTaskCacheTest {
+
+    private static final long TASK_ID = 1;
+
+    private final AtomicInteger compilations = new AtomicInteger();
+    private final LongFunction<CompiledTask> compiler = id -> {
+        this.compilations.incrementAndGet();
+        return new CompiledTask(id, 3, BigDecimal.TEN, null, null);
+    };
+
+    @Test
+    void cachedTaskIsServed() {
+        CompiledTaskCache cache = new CompiledTaskCache(10, Duration.ofHours(1));
+
+        CompiledTask first = cache.get(TASK_ID, this.compiler);
+        CompiledTask second = cache.get(TASK_ID, this.compiler);
+
+        assertSame(first, second);
+        assertEquals(1, this.compilations.get());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void invalidationDuringCompilationIsNotOverwritten() {
+        CompiledTaskCache cache = new CompiledTaskCache(10, Duration.ofHours(1));
+
+        // The task is updated while it is being compiled, so the compiled task is outdated.
+        CompiledTask outdated = cache.get(TASK_ID, id -> {
+            CompiledTask task = this.compiler.apply(id);
+            cache.invalidate(id);
+            return task;
+        });
+        CompiledTask current = cache.get(TASK_ID, this.compiler);
+
+        assertNotSame(outdated, current);
+        assertEquals(2, this.compilations.get());
+        assertEquals(0, cache.getHits());
+        assertSame(current, cache.get(TASK_ID, this.compiler));
+    }
+
+    @Test
+    void expiredTaskIsCompiledAnew() throws InterruptedException {
+        CompiledTaskCache cache = new CompiledTaskCache(10, Duration.ofMillis(20));
+
+        CompiledTask expired = cache.get(TASK_ID, this.compiler);
+        Thread.sleep(50);
+        CompiledTask current = cache.get(TASK_ID, this.compiler);
+
+        assertNotSame(expired, current);
+        assertEquals(2, this.compilations.get());
+        assertEquals(0, cache.getHits());
+        assertEquals(2, cache.getMisses());
+    }
+}
@@ -0,0 +1,202 @@
+package at.jku.dke.task_app.fanf.evaluation;
+
+import at.jku.dke.etutor.task_app.dto.GradingDto;
+import at.jku.dke.etutor.task_app.dto.SubmissionMode;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tests the caching and coalescing of evaluations by {@link EvaluationResultCache}.
+ */
+class EvaluationResultCacheTest {
+
+    private static final EvaluationResultCache.Key KEY = new EvaluationResultCache.Key(1, "A, B", 2, "en", SubmissionMode.SUBMIT);
+    private static final Duration TIME_TO_LIVE = Duration.ofHours(1);
+
+    private final CompiledTask task = new CompiledTask(1, 3, BigDecimal.TEN, null, null);
+
+    @Test
+    void waiterReceivesLeaderResult() throws Exception {
+        EvaluationResultCache cache = new EvaluationResultCache(0, TIME_TO_LIVE, Duration.ofSeconds(30));
+        Leader leader = Leader.start(cache, this.task, () -> grading("leader"));
+
+        Waiter waiter = Waiter.start(cache, this.task, () -> fail("The waiter must not evaluate on its own."));
+        leader.release();
+
+        assertEquals("leader", leader.result().generalFeedback());
+        assertEquals("leader", waiter.result().generalFeedback());
+        assertCounts(cache, 0, 1, 1, 0);
+        assertEquals(0, cache.getWaitTimeouts());
+        assertNotInFlight(cache, this.task);
+    }
+
+    @Test
+    void waiterFallsBackAfterMaxWait() throws Exception {
+        EvaluationResultCache cache = new EvaluationResultCache(0, TIME_TO_LIVE, Duration.ofMillis(50));
+        Leader leader = Leader.start(cache, this.task, () -> grading("leader"));
+
+        GradingDto result = cache.get(KEY, this.task, () -> grading("waiter"));
+        leader.release();
+
+        assertEquals("waiter", result.generalFeedback());
+        assertEquals("leader", leader.result().generalFeedback());
+        assertCounts(cache, 0, 1, 0, 1);
+        assertEquals(1, cache.getWaitTimeouts());
+        assertNotInFlight(cache, this.task);
+    }
+
+    @Test
+    void waiterFallsBackWhenLeaderThrows() throws Exception {
+        EvaluationResultCache cache = new EvaluationResultCache(0, TIME_TO_LIVE, Duration.ofSeconds(30));
+        Leader leader = Leader.start(cache, this.task, () -> {
+            throw new IllegalArgumentException("leader failed");
+        });
+
+        Waiter waiter = Waiter.start(cache, this.task, () -> grading("waiter"));
+        leader.release();
+
+        ExecutionException exception = assertThrows(ExecutionException.class, leader::result);
+        assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+        assertEquals("waiter", waiter.result().generalFeedback());
+        assertCounts(cache, 0, 1, 0, 1);
+        assertEquals(0, cache.getWaitTimeouts());
+        assertNotInFlight(cache, this.task);
+    }
+
+    @Test
+    void resultIsCachedForSameTask() throws Exception {
+        EvaluationResultCache cache = new EvaluationResultCache(10, TIME_TO_LIVE, Duration.ofSeconds(30));
+
+        cache.get(KEY, this.task, () -> grading("first"));
+        GradingDto result = cache.get(KEY, this.task, () -> fail("The cached result must be served."));
+
+        assertEquals("first", result.generalFeedback());
+        assertCounts(cache, 1, 1, 0, 0);
+    }
+
+    @Test
+    void cachedResultOfOlderTaskIsNotServed() throws Exception {
+        EvaluationResultCache cache = new EvaluationResultCache(10, TIME_TO_LIVE, Duration.ofSeconds(30));
+        CompiledTask recompiled = new CompiledTask(1, 3, BigDecimal.TEN, null, null);
+
+        cache.get(KEY, this.task, () -> grading("older"));
+        GradingDto result = cache.get(KEY, recompiled, () -> grading("newer"));
+
+        assertEquals("newer", result.generalFeedback());
+        assertCounts(cache, 0, 2, 0, 0);
+    }
+
+    @Test
+    void evaluationOfOlderTaskIsNotAwaited() throws Exception {
+        EvaluationResultCache cache = new EvaluationResultCache(10, TIME_TO_LIVE, Duration.ofSeconds(30));
+        CompiledTask recompiled = new CompiledTask(1, 3, BigDecimal.TEN, null, null);
+        Leader leader = Leader.start(cache, this.task, () -> grading("older"));
+
+        GradingDto result = cache.get(KEY, recompiled, () -> grading("newer"));
+        leader.release();
+        leader.result();
+
+        // The older evaluation finished last, but its result must not be served for the recompiled task either.
+        GradingDto later = cache.get(KEY, recompiled, () -> grading("newest"));
+
+        assertEquals("newer", result.generalFeedback());
+        assertEquals("newest", later.generalFeedback());
+        assertCounts(cache, 0, 3, 0, 0);
+    }
+
+    /**
+     * Asserts that the cache counted every call exactly once.
+     */
+    private static void assertCounts(EvaluationResultCache cache, long hits, long misses, long coalesced, long fallbacks) {
+        assertEquals(hits, cache.getHits(), "hits");
+        assertEquals(misses, cache.getMisses(), "misses");
+        assertEquals(coalesced, cache.getCoalesced(), "coalesced");
+        assertEquals(fallbacks, cache.getFallbacks(), "fallbacks");
+    }
+
+    /**
+     * Asserts that no evaluation of {@link #KEY} is in flight, i.e., that a new call evaluates on its own. The cache
+     * must not cache results, so that the call is not served from it.
+     */
+    private static void assertNotInFlight(EvaluationResultCache cache, CompiledTask task) throws Exception {
+        AtomicInteger evaluations = new AtomicInteger();
+        long misses = cache.getMisses();
+
+        cache.get(KEY, task, () -> {
+            evaluations.incrementAndGet();
+            return grading("after");
+        });
+
+        assertEquals(1, evaluations.get());
+        assertEquals(misses + 1, cache.getMisses());
+    }
+
+    private static GradingDto grading(String feedback) {
+        return new GradingDto(BigDecimal.TEN, BigDecimal.ONE, feedback, List.of());
+    }
+
+    /**
+     * A caller that evaluates {@link #KEY} first and blocks in its evaluation until it is released.
+     */
+    private record Leader(FutureTask<GradingDto> future, CountDownLatch released) {
+
+        static Leader start(EvaluationResultCache cache, CompiledTask task, Callable<GradingDto> evaluator) throws InterruptedException {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch released = new CountDownLatch(1);
+            FutureTask<GradingDto> future = new FutureTask<>(() -> cache.get(KEY, task, () -> {
+                started.countDown();
+                assertTrue(released.await(30, TimeUnit.SECONDS));
+                return evaluator.call();
+            }));
+            new Thread(future).start();
+            assertTrue(started.await(30, TimeUnit.SECONDS));
+            return new Leader(future, released);
+        }
+
+        void release() {
+            this.released.countDown();
+        }
+
+        GradingDto result() throws Exception {
+            return this.future.get(30, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * A caller of {@link #KEY} that is started once it waits for the result of a {@link Leader}.
+     */
+    private record Waiter(FutureTask<GradingDto> future) {
+
+        static Waiter start(EvaluationResultCache cache, CompiledTask task, Callable<GradingDto> evaluator) throws InterruptedException {
+            FutureTask<GradingDto> future = new FutureTask<>(() -> cache.get(KEY, task, evaluator));
+            Thread thread = new Thread(future);
+            thread.start();
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (thread.getState() != Thread.State.TIMED_WAITING) {
+                assertTrue(System.nanoTime() < deadline, "The waiter did not start waiting.");
+                Thread.sleep(1);
+            }
+            return new Waiter(future);
+        }
+
+        GradingDto result() throws Exception {
+            return this.future.get(30, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package at.jku.dke.task_app.fanf.evaluation.algorithms;
+
+import at.jku.dke.task_app.fanf.evaluation.model.FunctionalDependency;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that {@link CanonicalCover} returns the same minimal cover for equivalent sets of functional dependencies.
+ */
+class CanonicalCoverTest {
+
+    private static final List<String> ATTRIBUTES = List.of("A", "B", "C", "D", "E", "F", "G");
+
+    @Test
+    void augmentedDependencyIsDropped() {
+        Set<FunctionalDependency> cover = CanonicalCover.execute(List.of(fd("A", "C"), fd("AD", "C")));
+
+        assertEquals(Set.of(fd("A", "C")), cover);
+    }
+
+    @Test
+    void equivalentInputsYieldSameCover() {
+        List<FunctionalDependency> dependencies = List.of(fd("A", "B"), fd("B", "A"), fd("AC", "D"), fd("BC", "E"));
+
+        Set<FunctionalDependency> expected = CanonicalCover.execute(dependencies);
+
+        assertEquals(expected, CanonicalCover.execute(List.of(fd("A", "B"), fd("B", "A"), fd("BC", "DE"))));
+        assertEquals(expected, CanonicalCover.execute(List.of(fd("B", "A"), fd("A", "B"), fd("AC", "DE"), fd("ABC", "E"))));
+        assertEquals(expected, CanonicalCover.execute(List.of(fd("A", "B"), fd("B", "A"), fd("AC", "BDE"), fd("BC", "D"))));
+    }
+
+    @Test
+    void randomEquivalentInputsYieldSameCover() {
+        Random random = new Random(42);
+
+        for (int run = 0; run < 200; run++) {
+            List<FunctionalDependency> dependencies = randomDependencies(random, 2 + random.nextInt(6));
+            Set<FunctionalDependency> expected = CanonicalCover.execute(dependencies);
+
+            assertTrue(equivalent(dependencies, expected), () -> "Cover " + expected + " is not equivalent to " + dependencies);
+
+            List<FunctionalDependency> shuffled = new ArrayList<>(MinimalCover.unfold(dependencies));
+            Collections.shuffle(shuffled, random);
+            assertEquals(expected, CanonicalCover.execute(shuffled), () -> "Shuffled: " + dependencies);
+
+            assertEquals(expected, CanonicalCover.execute(MinimalCover.execute(dependencies)), () -> "Minimal cover: " + dependencies);
+
+            assertEquals(expected, CanonicalCover.execute(withImpliedDependencies(dependencies, random)), () -> "Implied: " + dependencies);
+
+            assertEquals(expected, CanonicalCover.execute(expected), () -> "Canonical cover: " + dependencies);
+        }
+    }
+
+    /**
+     * Returns the supplied dependencies together with the dependencies of some attribute sets on their closures and
+     * augmented copies of some of the supplied dependencies.
+     */
+    private static List<FunctionalDependency> withImpliedDependencies(List<FunctionalDependency> dependencies, Random random) {
+        List<FunctionalDependency> result = new ArrayList<>(dependencies);
+        CompiledDependencySet compiled = new CompiledDependencySet(dependencies);
+
+        for (int i = 0; i < 3; i++) {
+            List<String> lhs = randomAttributes(random);
+            result.add(new FunctionalDependency(lhs, compiled.closure(lhs)));
+        }
+        for (FunctionalDependency currDependency : dependencies) {
+            if (random.nextBoolean()) {
+                List<String> lhs = new ArrayList<>(currDependency.getLhsAttributes());
+                lhs.add(ATTRIBUTES.get(random.nextInt(ATTRIBUTES.size())));
+                result.add(new FunctionalDependency(lhs, currDependency.getRhsAttributes()));
+            }
+        }
+
+        Collections.shuffle(result, random);
+        return result;
+    }
+
+    static boolean equivalent(Collection<FunctionalDependency> dependencies1, Collection<FunctionalDependency> dependencies2) {
+        return new CompiledDependencySet(dependencies1).covers(dependencies2) && new CompiledDependencySet(dependencies2).covers(dependencies1);
+    }
+
+    static List<FunctionalDependency> randomDependencies(Random random, int count) {
+        List<FunctionalDependency> dependencies = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            dependencies.add(new FunctionalDependency(randomAttributes(random), randomAttributes(random)));
+        }
+        return dependencies;
+    }
+
+    private static List<String> randomAttributes(Random random) {
+        List<String> attributes = new ArrayList<>();
+        int count = 1 + random.nextInt(3);
+        while (attributes.size() < count) {
+            String attribute = ATTRIBUTES.get(random.nextInt(ATTRIBUTES.size()));
+            if (!attributes.contains(attribute)) {
+                attributes.add(attribute);
+            }
+        }
+        return attributes;
+    }
+
+    /**
+     * Creates a functional dependency between attributes named by single characters, e.g. <code>fd("AD", "C")</code>
+     * for <code>A,D -&gt; C</code>.
+     */
+    static FunctionalDependency fd(String lhs, String rhs) {
+        return new FunctionalDependency(List.of(lhs.split("")), List.of(rhs.split("")));
+    }
+}
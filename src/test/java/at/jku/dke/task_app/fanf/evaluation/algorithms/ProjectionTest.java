@@ -0,0 +1,140 @@
+package at.jku.dke.task_app.fanf.evaluation.algorithms;
+
+import at.jku.dke.task_app.fanf.evaluation.model.FunctionalDependency;
+import at.jku.dke.task_app.fanf.evaluation.model.Relation;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static at.jku.dke.task_app.fanf.evaluation.algorithms.CanonicalCoverTest.equivalent;
+import static at.jku.dke.task_app.fanf.evaluation.algorithms.CanonicalCoverTest.fd;
+import static at.jku.dke.task_app.fanf.evaluation.algorithms.CanonicalCoverTest.randomDependencies;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that both engines of {@link Projection} return the same canonical cover, equivalent to the dependencies
+ * obtained from the closure of every subset of the subscheme.
+ */
+class ProjectionTest {
+
+    private static final List<String> ATTRIBUTES = List.of("A", "B", "C", "D", "E", "F", "G");
+
+    @Test
+    void resolventsImpliedByOthersAreNotExpected() {
+        Relation relation = new Relation(List.of("A", "B", "C", "D"), List.of(fd("A", "C"), fd("D", "B"), fd("AB", "C")));
+        List<String> subscheme = List.of("A", "C", "D");
+
+        Set<FunctionalDependency> unpruned = ReductionByResolution.executeUnpruned(relation, subscheme);
+
+        assertEquals(Set.of(fd("A", "C"), fd("AD", "C")), unpruned);
+        assertEquals(Set.of(fd("A", "C")), Projection.execute(relation, subscheme, Projection.Engine.REDUCTION_BY_RESOLUTION));
+        assertEquals(Set.of(fd("A", "C")), Projection.execute(relation, subscheme, Projection.Engine.CLOSURE));
+    }
+
+    @Test
+    void enginesMatchBruteForceProjection() {
+        Random random = new Random(7);
+
+        for (int run = 0; run < 300; run++) {
+            Relation relation = new Relation(ATTRIBUTES, randomDependencies(random, 2 + random.nextInt(7)));
+            List<String> subscheme = new ArrayList<>();
+            for (String currAttribute : ATTRIBUTES) {
+                if (random.nextInt(3) > 0) {
+                    subscheme.add(currAttribute);
+                }
+            }
+
+            Set<FunctionalDependency> bruteForce = bruteForceProjection(relation, subscheme);
+            Set<FunctionalDependency> resolution = Projection.execute(relation, subscheme, Projection.Engine.REDUCTION_BY_RESOLUTION);
+            Set<FunctionalDependency> closure = Projection.execute(relation, subscheme, Projection.Engine.CLOSURE);
+            String message = relation.getFunctionalDependencies() + " onto " + subscheme;
+
+            assertEquals(resolution, closure, message);
+            assertTrue(equivalent(bruteForce, resolution), message);
+            assertEquals(CanonicalCover.execute(bruteForce), resolution, message);
+            assertTrue(equivalent(ReductionByResolution.executeUnpruned(relation, subscheme), resolution), message);
+        }
+    }
+
+    @Test
+    void enginesAgreeAroundClosureCandidateCutoff() {
+        int cutoff = Projection.MAX_CLOSURE_CANDIDATES;
+        Relation relation = chainWithShortcuts(cutoff + 8);
+
+        for (int candidates : List.of(cutoff - 4, cutoff, cutoff + 1, cutoff + 7)) {
+            // K01..Km and H1 all occur on left-hand sides, so there are m + 1 closure candidates.
+            List<String> subscheme = new ArrayList<>();
+            for (int i = 1; i < candidates; i++) {
+                subscheme.add(String.format("K%02d", i));
+            }
+            subscheme.add("H1");
+
+            Set<FunctionalDependency> resolution = Projection.execute(relation, subscheme, Projection.Engine.REDUCTION_BY_RESOLUTION);
+            Set<FunctionalDependency> closure = Projection.execute(relation, subscheme, Projection.Engine.CLOSURE);
+            String message = candidates + " closure candidates";
+
+            assertEquals(resolution, closure, message);
+            assertTrue(equivalent(ReductionByResolution.executeUnpruned(relation, subscheme), resolution), message);
+            assertFalse(resolution.isEmpty(), message);
+            if (candidates > cutoff) {
+                assertEquals(Projection.Engine.REDUCTION_BY_RESOLUTION, Projection.selectEngine(relation, subscheme), message);
+            }
+        }
+    }
+
+    /**
+     * Returns a relation with the attributes <code>K01..Kn</code>, each determining the next one, and the attributes
+     * <code>H1, H2, ...</code>, each determined by some <code>Ki</code> and determining an earlier <code>Kj</code>
+     * together with another <code>Ki</code>.
+     */
+    private static Relation chainWithShortcuts(int n) {
+        List<String> attributes = new ArrayList<>();
+        List<FunctionalDependency> dependencies = new ArrayList<>();
+        for (int i = 1; i <= n; i++) {
+            attributes.add(String.format("K%02d", i));
+            if (i > 1) {
+                dependencies.add(new FunctionalDependency(List.of(String.format("K%02d", i - 1)), List.of(String.format("K%02d", i))));
+            }
+        }
+        for (int j = 1; 7 * j + 2 <= n; j++) {
+            String shortcut = "H" + j;
+            attributes.add(shortcut);
+            dependencies.add(new FunctionalDependency(List.of(String.format("K%02d", 7 * j)), List.of(shortcut)));
+            dependencies.add(new FunctionalDependency(List.of(shortcut, String.format("K%02d", 7 * j + 2)), List.of(String.format("K%02d", 7 * j - 4))));
+        }
+        return new Relation(attributes, dependencies);
+    }
+
+    /**
+     * Returns the dependency of every subset <code>X</code> of the subscheme on the attributes of the subscheme in its
+     * closure.
+     */
+    static Set<FunctionalDependency> bruteForceProjection(Relation relation, List<String> subscheme) {
+        CompiledDependencySet dependencies = new CompiledDependencySet(relation.getFunctionalDependencies());
+        Set<FunctionalDependency> result = new HashSet<>();
+
+        for (int subset = 1; subset < 1 << subscheme.size(); subset++) {
+            List<String> lhs = new ArrayList<>();
+            for (int i = 0; i < subscheme.size(); i++) {
+                if ((subset & 1 << i) != 0) {
+                    lhs.add(subscheme.get(i));
+                }
+            }
+
+            Set<String> rhs = new HashSet<>(dependencies.closure(lhs));
+            rhs.retainAll(subscheme);
+            rhs.removeAll(lhs);
+            if (!rhs.isEmpty()) {
+                result.add(new FunctionalDependency(lhs, rhs));
+            }
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,94 @@
+package at.jku.dke.task_app.fanf.evaluation.analysis.normalization;
+
+import at.jku.dke.task_app.fanf.evaluation.model.FunctionalDependency;
+import at.jku.dke.task_app.fanf.evaluation.model.Key;
+import at.jku.dke.task_app.fanf.evaluation.model.Relation;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the lazy key search of {@link KeysDeterminator} returns minimal keys of the complete key set and stops
+ * as soon as enough keys have been found.
+ */
+class KeysDeterminatorTest {
+
+    @Test
+    void streamMinimalKeysReturnsAllMinimalKeys() {
+        Relation relation = swappablePairs(4);
+
+        Set<Key> streamed = KeysDeterminator.streamMinimalKeys(relation).collect(Collectors.toSet());
+
+        assertEquals(16, streamed.size());
+        assertEquals(new HashSet<>(allMinimalKeys(relation)), streamed);
+    }
+
+    @Test
+    void limitReturnsSubsetOfMinimalKeys() {
+        Relation relation = swappablePairs(4);
+        Set<Key> allKeys = allMinimalKeys(relation);
+
+        List<Key> firstKeys = KeysDeterminator.streamMinimalKeys(relation).limit(3).toList();
+        Set<Key> limitedKeys = KeysDeterminator.determineMinimalKeys(relation, 5);
+
+        assertEquals(3, firstKeys.size());
+        assertEquals(3, new HashSet<>(firstKeys).size());
+        assertTrue(allKeys.containsAll(firstKeys));
+        assertEquals(5, limitedKeys.size());
+        assertTrue(allKeys.containsAll(limitedKeys));
+    }
+
+    @Test
+    void limitAboveKeyCountReturnsAllMinimalKeys() {
+        Relation relation = swappablePairs(2);
+
+        assertEquals(allMinimalKeys(relation), KeysDeterminator.determineMinimalKeys(relation, 100));
+    }
+
+    @Test
+    void hasMoreKeysThan() {
+        Relation relation = swappablePairs(3);
+
+        assertTrue(KeysDeterminator.hasMoreKeysThan(relation, 0));
+        assertTrue(KeysDeterminator.hasMoreKeysThan(relation, 7));
+        assertFalse(KeysDeterminator.hasMoreKeysThan(relation, 8));
+        assertFalse(KeysDeterminator.hasMoreKeysThan(relation, 20));
+    }
+
+    @Test
+    void relationWithoutDependenciesHasExactlyOneKey() {
+        Relation relation = new Relation(List.of("A", "B", "C"), List.of());
+
+        assertTrue(KeysDeterminator.hasMoreKeysThan(relation, 0));
+        assertFalse(KeysDeterminator.hasMoreKeysThan(relation, 1));
+        assertEquals(Set.of(new Key("A", "B", "C")), KeysDeterminator.determineMinimalKeys(relation, 1));
+    }
+
+    private static Set<Key> allMinimalKeys(Relation relation) {
+        return KeysDeterminator.determineAllKeys(relation).getMinimalKeys();
+    }
+
+    /**
+     * Returns a relation with the attributes <code>A1..An</code> and <code>B1..Bn</code> in which <code>Ai</code> and
+     * <code>Bi</code> determine each other, so every choice of one attribute per pair is a minimal key.
+     */
+    private static Relation swappablePairs(int n) {
+        List<String> attributes = new ArrayList<>();
+        List<FunctionalDependency> dependencies = new ArrayList<>();
+        for (int i = 1; i <= n; i++) {
+            attributes.add("A" + i);
+            attributes.add("B" + i);
+            dependencies.add(new FunctionalDependency(List.of("A" + i), List.of("B" + i)));
+            dependencies.add(new FunctionalDependency(List.of("B" + i), List.of("A" + i)));
+        }
+        return new Relation(attributes, dependencies);
+    }
+}
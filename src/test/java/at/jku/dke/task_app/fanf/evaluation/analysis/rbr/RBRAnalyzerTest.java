@@ -0,0 +1,74 @@
+package at.jku.dke.task_app.fanf.evaluation.analysis.rbr;
+
+import at.jku.dke.task_app.fanf.evaluation.algorithms.Projection;
+import at.jku.dke.task_app.fanf.evaluation.algorithms.ProjectionCache;
+import at.jku.dke.task_app.fanf.evaluation.model.FunctionalDependency;
+import at.jku.dke.task_app.fanf.evaluation.model.Relation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests how many missing dependencies {@link RBRAnalyzer} reports for a subrelation, with and without the canonical
+ * cover of {@link Projection}. Each missing dependency costs a penalty when grading a normalization.
+ */
+class RBRAnalyzerTest {
+
+    /**
+     * <code>R(A, B, C, D)</code> with <code>A -&gt; C</code>, <code>D -&gt; B</code> and <code>A,B -&gt; C</code>.
+     * Eliminating <code>B</code> yields <code>A,D -&gt; C</code>, which is implied by <code>A -&gt; C</code>.
+     */
+    private static final Relation BASE_RELATION = new Relation(List.of("A", "B", "C", "D"), List.of(
+        new FunctionalDependency(List.of("A"), List.of("C")),
+        new FunctionalDependency(List.of("D"), List.of("B")),
+        new FunctionalDependency(List.of("A", "B"), List.of("C"))));
+
+    @BeforeEach
+    @AfterEach
+    void resetProjection() {
+        Projection.setCanonicalCover(false);
+        ProjectionCache.getShared().clear();
+    }
+
+    @Test
+    void legacyProjectionCountsImpliedResolventAsMissing() {
+        RBRAnalysis analysis = RBRAnalyzer.analyze(BASE_RELATION, new Relation(List.of("A", "C", "D"), List.of()));
+
+        assertFalse(analysis.submissionSuitsSolution());
+        assertEquals(Set.of(dependency("A", "C"), dependency("AD", "C")), Set.copyOf(analysis.getMissingFunctionalDependencies()));
+    }
+
+    @Test
+    void canonicalCoverCountsMissingDependencyOnce() {
+        Projection.setCanonicalCover(true);
+
+        RBRAnalysis analysis = RBRAnalyzer.analyze(BASE_RELATION, new Relation(List.of("A", "C", "D"), List.of()));
+
+        assertFalse(analysis.submissionSuitsSolution());
+        assertEquals(List.of(dependency("A", "C")), analysis.getMissingFunctionalDependencies());
+    }
+
+    @Test
+    void correctSubmissionSuitsSolutionInBothModes() {
+        Relation subRelation = new Relation(List.of("A", "C", "D"), List.of(dependency("A", "C")));
+
+        RBRAnalysis legacy = RBRAnalyzer.analyze(BASE_RELATION, subRelation);
+        ProjectionCache.getShared().clear();
+        Projection.setCanonicalCover(true);
+        RBRAnalysis canonical = RBRAnalyzer.analyze(BASE_RELATION, subRelation);
+
+        assertTrue(legacy.submissionSuitsSolution());
+        assertTrue(canonical.submissionSuitsSolution());
+    }
+
+    private static FunctionalDependency dependency(String lhs, String rhs) {
+        return new FunctionalDependency(List.of(lhs.split("")), List.of(rhs.split("")));
+    }
+}
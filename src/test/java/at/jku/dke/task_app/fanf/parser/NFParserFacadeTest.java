@@ -0,0 +1,129 @@
+package at.jku.dke.task_app.fanf.parser;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that {@link NFParserFacade} reports the same results and syntax errors as a parser created for a single input,
+ * although it reuses the lexer and parser of the current thread and switches their error strategies.
+ */
+class NFParserFacadeTest {
+
+    private static final Function<NFParser, Set<String>> ATTRIBUTE_SET = parser -> parser.attributeSetSubmission().attributes;
+
+    private static final List<String> INPUTS = List.of(
+        "A, B, C",
+        "A, , B",
+        "A, B",
+        "A B C",
+        "A, Ä",
+        "C",
+        "A,",
+        "BCNF",
+        "B, D  ",
+        "");
+
+    @Test
+    void validInputAfterInvalidInput() {
+        assertMatchesFreshParser("A, , B");
+        assertMatchesFreshParser("A, B, C");
+
+        assertMatchesFreshParser("A, Ä");
+        assertMatchesFreshParser("A, B");
+    }
+
+    @Test
+    void invalidInputAfterValidInput() {
+        assertMatchesFreshParser("A, B, C");
+        assertMatchesFreshParser("A, , B");
+
+        assertMatchesFreshParser("C");
+        assertMatchesFreshParser("A, Ä");
+    }
+
+    @Test
+    void consecutiveInvalidInputs() {
+        assertMatchesFreshParser("A B C");
+        assertMatchesFreshParser("A,");
+        assertMatchesFreshParser("");
+        assertMatchesFreshParser("A, Ä");
+    }
+
+    @Test
+    void everyOrderOfInputs() {
+        for (String previous : INPUTS) {
+            for (String current : INPUTS) {
+                assertMatchesFreshParser(previous);
+                assertMatchesFreshParser(current);
+            }
+        }
+    }
+
+    @Test
+    void differentRulesAfterEachOther() {
+        NFParserErrorCollector errorCollector = new NFParserErrorCollector();
+        NFParserFacade.parse("A -> ", NFRule.FUNCTIONAL_DEPENDENCY_SET_SUBMISSION, errorCollector);
+        assertFalse(errorCollector.getSyntaxErrors().isEmpty());
+
+        errorCollector = new NFParserErrorCollector();
+        assertEquals(Set.of("A", "B"), NFParserFacade.parse("A, B", NFRule.ATTRIBUTE_SET_SUBMISSION, errorCollector));
+        assertTrue(errorCollector.getSyntaxErrors().isEmpty());
+
+        errorCollector = new NFParserErrorCollector();
+        NFParserFacade.parse("3NF. A -> B: 4NF", NFRule.NORMAL_FORM_SUBMISSION, errorCollector);
+        assertEquals(freshErrors("3NF. A -> B: 4NF", parser -> parser.normalFormSubmission().submission), errorCollector.getSyntaxErrors());
+    }
+
+    @Test
+    void tryParseDoesNotAffectNextParse() {
+        assertNull(NFParserFacade.tryParse("A, , B", NFRule.ATTRIBUTE_SET_SUBMISSION));
+        assertMatchesFreshParser("A, , B");
+        assertEquals(Set.of("A", "B"), NFParserFacade.tryParse("A, B", NFRule.ATTRIBUTE_SET_SUBMISSION));
+        assertMatchesFreshParser("A B C");
+    }
+
+    /**
+     * Parses the supplied input with both overloads of the facade and asserts that the results and syntax errors equal
+     * those of a fresh parser.
+     */
+    private static void assertMatchesFreshParser(String input) {
+        NFParserErrorCollector expectedErrors = new NFParserErrorCollector();
+        Set<String> expected = parseFresh(input, ATTRIBUTE_SET, expectedErrors);
+
+        NFParserErrorCollector actualErrors = new NFParserErrorCollector();
+        Set<String> actual = NFParserFacade.parse(input, ATTRIBUTE_SET, actualErrors);
+        assertEquals(expectedErrors.getSyntaxErrors(), actualErrors.getSyntaxErrors(), () -> "Different syntax errors for input: " + input);
+        assertEquals(expected, actual, () -> "Different results for input: " + input);
+
+        actualErrors = new NFParserErrorCollector();
+        actual = NFParserFacade.parse(input, NFRule.ATTRIBUTE_SET_SUBMISSION, actualErrors);
+        assertEquals(expectedErrors.getSyntaxErrors(), actualErrors.getSyntaxErrors(), () -> "Different syntax errors for input: " + input);
+        assertEquals(expected, actual, () -> "Different results for input: " + input);
+    }
+
+    private static <T> List<String> freshErrors(String input, Function<NFParser, T> rule) {
+        NFParserErrorCollector errorCollector = new NFParserErrorCollector();
+        parseFresh(input, rule, errorCollector);
+        return errorCollector.getSyntaxErrors();
+    }
+
+    private static <T> T parseFresh(String input, Function<NFParser, T> rule, NFParserErrorCollector errorCollector) {
+        NFLexer lexer = new NFLexer(CharStreams.fromString(input));
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(errorCollector);
+        NFParser parser = new NFParser(new CommonTokenStream(lexer));
+        parser.removeErrorListeners();
+        parser.addErrorListener(errorCollector);
+        return rule.apply(parser);
+    }
+}
@@ -0,0 +1,321 @@
+package at.jku.dke.task_app.fanf.parser;
+
+import at.jku.dke.task_app.fanf.evaluation.model.IdentifiedRelation;
+import at.jku.dke.task_app.fanf.evaluation.model.NormalformDeterminationSubmission;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Differential tests of {@link NFSubmissionParser} against the generated {@link NFParser}, which is the reference: The
+ * hand-written parser must reject exactly the inputs the generated parser reports syntax errors for, and return the same
+ * results for all others.
+ */
+class NFSubmissionParserTest {
+
+    private static final List<NFRule<?>> RULES = List.of(
+        NFRule.RELATION_SET_SUBMISSION,
+        NFRule.KEY_SET_SUBMISSION,
+        NFRule.NORMAL_FORM_SUBMISSION,
+        NFRule.NORMAL_FORM_SPECIFICATION,
+        NFRule.FUNCTIONAL_DEPENDENCY_SET_SUBMISSION,
+        NFRule.ATTRIBUTE_SET_SUBMISSION);
+
+    /**
+     * Characters the random mutations are drawn from, including ones the lexer does not accept.
+     */
+    private static final String MUTATIONS = "AaBZz09_ ,;:.#()->\t\nÄé$";
+
+    static Stream<Arguments> literalCases() {
+        return Stream.of(
+            // Relations
+            Arguments.of(NFRule.RELATION_SET_SUBMISSION, "R1: (A, B, C) -> (A -> B; B -> C) # (A)"),
+            Arguments.of(NFRule.RELATION_SET_SUBMISSION, "R1:(A,B)->(A->B)#(A);R2:(B,C)->(B->C)#(B)"),
+            Arguments.of(NFRule.RELATION_SET_SUBMISSION, "R1: (A, B) -> () # (A, B)"),
+            Arguments.of(NFRule.RELATION_SET_SUBMISSION, "R1: (A, B) -> ( ) # (A, B)"),
+            Arguments.of(NFRule.RELATION_SET_SUBMISSION, "R1: (A, B) -> (A - > B) # (A)"),
+            Arguments.of(NFRule.RELATION_SET_SUBMISSION, "R1: (A, B) -> (A -> B) # ()"),
+            Arguments.of(NFRule.RELATION_SET_SUBMISSION, "R1: (A, B) -> (A -> B) # (A);"),
+            Arguments.of(NFRule.RELATION_SET_SUBMISSION, "1R: (A) -> () # (A)"),
+            Arguments.of(NFRule.RELATION_SET_SUBMISSION, "BCNF: (A) -> () # (A)"),
+            Arguments.of(NFRule.RELATION_SET_SUBMISSION, "R_1: (A_b, c_2) -> (A_b -> c_2) # (A_b)"),
+            // Keys
+            Arguments.of(NFRule.KEY_SET_SUBMISSION, "A, B; C"),
+            Arguments.of(NFRule.KEY_SET_SUBMISSION, "A,B;A,B"),
+            Arguments.of(NFRule.KEY_SET_SUBMISSION, "A;"),
+            Arguments.of(NFRule.KEY_SET_SUBMISSION, ";A"),
+            Arguments.of(NFRule.KEY_SET_SUBMISSION, ""),
+            Arguments.of(NFRule.KEY_SET_SUBMISSION, "   "),
+            // Normal form submissions
+            Arguments.of(NFRule.NORMAL_FORM_SUBMISSION, "3NF."),
+            Arguments.of(NFRule.NORMAL_FORM_SUBMISSION, "1NF. A -> B: 2NF"),
+            Arguments.of(NFRule.NORMAL_FORM_SUBMISSION, "2NF.A->B:3NF;B,C->D:BCNF"),
+            Arguments.of(NFRule.NORMAL_FORM_SUBMISSION, "BCNF . A -> B : 3NF"),
+            Arguments.of(NFRule.NORMAL_FORM_SUBMISSION, "BCNFx."),
+            Arguments.of(NFRule.NORMAL_FORM_SUBMISSION, "3NF"),
+            Arguments.of(NFRule.NORMAL_FORM_SUBMISSION, "3NF.;"),
+            Arguments.of(NFRule.NORMAL_FORM_SUBMISSION, "3NF. A -> B: 4NF"),
+            Arguments.of(NFRule.NORMAL_FORM_SUBMISSION, "3NF. A -> B: 3NFx"),
+            // Normal form specifications
+            Arguments.of(NFRule.NORMAL_FORM_SPECIFICATION, "1NF"),
+            Arguments.of(NFRule.NORMAL_FORM_SPECIFICATION, "2NF"),
+            Arguments.of(NFRule.NORMAL_FORM_SPECIFICATION, "3NF"),
+            Arguments.of(NFRule.NORMAL_FORM_SPECIFICATION, "BCNF"),
+            Arguments.of(NFRule.NORMAL_FORM_SPECIFICATION, " BCNF \n"),
+            Arguments.of(NFRule.NORMAL_FORM_SPECIFICATION, "BCNFx"),
+            Arguments.of(NFRule.NORMAL_FORM_SPECIFICATION, "BCN"),
+            Arguments.of(NFRule.NORMAL_FORM_SPECIFICATION, "bcnf"),
+            Arguments.of(NFRule.NORMAL_FORM_SPECIFICATION, "11NF"),
+            Arguments.of(NFRule.NORMAL_FORM_SPECIFICATION, "1NF1"),
+            Arguments.of(NFRule.NORMAL_FORM_SPECIFICATION, "1 NF"),
+            Arguments.of(NFRule.NORMAL_FORM_SPECIFICATION, "1NFBCNF"),
+            // Functional dependencies
+            Arguments.of(NFRule.FUNCTIONAL_DEPENDENCY_SET_SUBMISSION, "A -> B; B, C -> D"),
+            Arguments.of(NFRule.FUNCTIONAL_DEPENDENCY_SET_SUBMISSION, "A->B;A->B"),
+            Arguments.of(NFRule.FUNCTIONAL_DEPENDENCY_SET_SUBMISSION, "A -> B\t\r\n "),
+            Arguments.of(NFRule.FUNCTIONAL_DEPENDENCY_SET_SUBMISSION, "A - > B"),
+            Arguments.of(NFRule.FUNCTIONAL_DEPENDENCY_SET_SUBMISSION, "A -> "),
+            Arguments.of(NFRule.FUNCTIONAL_DEPENDENCY_SET_SUBMISSION, "-> B"),
+            Arguments.of(NFRule.FUNCTIONAL_DEPENDENCY_SET_SUBMISSION, "A => B"),
+            Arguments.of(NFRule.FUNCTIONAL_DEPENDENCY_SET_SUBMISSION, "Ä -> B"),
+            Arguments.of(NFRule.FUNCTIONAL_DEPENDENCY_SET_SUBMISSION, "A -> Bé"),
+            // Attributes
+            Arguments.of(NFRule.ATTRIBUTE_SET_SUBMISSION, "A, b, C3, d_4, E__"),
+            Arguments.of(NFRule.ATTRIBUTE_SET_SUBMISSION, "BCNFx, BCNF1, xBCNF"),
+            Arguments.of(NFRule.ATTRIBUTE_SET_SUBMISSION, "BCNF"),
+            Arguments.of(NFRule.ATTRIBUTE_SET_SUBMISSION, "A, BCNF"),
+            Arguments.of(NFRule.ATTRIBUTE_SET_SUBMISSION, "_A"),
+            Arguments.of(NFRule.ATTRIBUTE_SET_SUBMISSION, "1A"),
+            Arguments.of(NFRule.ATTRIBUTE_SET_SUBMISSION, "A,"),
+            Arguments.of(NFRule.ATTRIBUTE_SET_SUBMISSION, "A B"),
+            Arguments.of(NFRule.ATTRIBUTE_SET_SUBMISSION, "A \n"),
+            Arguments.of(NFRule.ATTRIBUTE_SET_SUBMISSION, "Straße"),
+            Arguments.of(NFRule.ATTRIBUTE_SET_SUBMISSION, "A "));
+    }
+
+    @ParameterizedTest
+    @MethodSource("literalCases")
+    void literalInputMatchesGeneratedParser(NFRule<?> rule, String input) {
+        assertMatchesGeneratedParser(rule, input);
+    }
+
+    @Test
+    void literalInputMatchesGeneratedParserForEveryRule() {
+        literalCases().forEach(arguments -> {
+            for (NFRule<?> rule : RULES) {
+                assertMatchesGeneratedParser(rule, (String) arguments.get()[1]);
+            }
+        });
+    }
+
+    @Test
+    void randomInputMatchesGeneratedParser() {
+        Random random = new Random(20240106);
+        int valid = 0;
+        int invalid = 0;
+
+        for (int i = 0; i < 3000; i++) {
+            NFRule<?> rule = RULES.get(i % RULES.size());
+            String input = generate(rule, random);
+            if (random.nextInt(3) == 0) {
+                input = mutate(input, random);
+            }
+
+            if (assertMatchesGeneratedParser(rule, input)) {
+                valid++;
+            } else {
+                invalid++;
+            }
+        }
+
+        // Make sure that the corpus exercises both outcomes.
+        assertTrue(valid > 1000, "valid inputs: " + valid);
+        assertTrue(invalid > 300, "invalid inputs: " + invalid);
+    }
+
+    /**
+     * Parses the supplied input with both parsers and asserts that they agree.
+     *
+     * @return Whether the input is syntactically valid.
+     */
+    private static boolean assertMatchesGeneratedParser(NFRule<?> rule, String input) {
+        NFParserErrorCollector errorCollector = new NFParserErrorCollector();
+        Object expected = parseGenerated(rule, input, errorCollector);
+
+        Object actual;
+        try {
+            actual = rule.parseHandWritten(new NFSubmissionParser(), input);
+        } catch (NFSubmissionParser.SyntaxError e) {
+            assertFalse(errorCollector.getSyntaxErrors().isEmpty(), () -> "Rejected valid input: " + input);
+            return false;
+        }
+
+        assertTrue(errorCollector.getSyntaxErrors().isEmpty(), () -> "Accepted invalid input: " + input + " " + errorCollector.getSyntaxErrors());
+        assertEquals(describe(expected), describe(actual), () -> "Different results for input: " + input);
+        return true;
+    }
+
+    private static Object parseGenerated(NFRule<?> rule, String input, NFParserErrorCollector errorCollector) {
+        NFLexer lexer = new NFLexer(CharStreams.fromString(input));
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(errorCollector);
+        NFParser parser = new NFParser(new CommonTokenStream(lexer));
+        parser.removeErrorListeners();
+        parser.addErrorListener(errorCollector);
+        return rule.getGenerated().apply(parser);
+    }
+
+    /**
+     * Describes a parse result. Sets are described in their iteration order, which has to match as well, except for
+     * relations, whose hash codes are their identities.
+     */
+    private static String describe(Object result) {
+        if (result instanceof NormalformDeterminationSubmission submission) {
+            return submission.getOverallLevel() + "." + new TreeMap<>(submission.getNormalformViolations().entrySet().stream()
+                .collect(Collectors.toMap(e -> e.getKey().toString(), e -> e.getValue())));
+        }
+        if (result instanceof Set<?> set && !set.isEmpty() && set.iterator().next() instanceof IdentifiedRelation) {
+            List<String> relations = new ArrayList<>();
+            for (Object element : set) {
+                IdentifiedRelation relation = (IdentifiedRelation) element;
+                relations.add(relation.getID() + relation.getAttributes() + relation.getFunctionalDependencies().stream().map(Object::toString).sorted().toList() + relation.getMinimalKeys());
+            }
+            relations.sort(null);
+            return relations.toString();
+        }
+        return String.valueOf(result);
+    }
+
+    private static String generate(NFRule<?> rule, Random random) {
+        StringBuilder builder = new StringBuilder();
+        if (rule == NFRule.RELATION_SET_SUBMISSION) {
+            int count = 1 + random.nextInt(3);
+            for (int i = 0; i < count; i++) {
+                separator(builder, random, i > 0 ? ";" : "");
+                builder.append(attribute(random));
+                separator(builder, random, ":");
+                separator(builder, random, "(");
+                attributeSet(builder, random);
+                separator(builder, random, ")");
+                separator(builder, random, "->");
+                separator(builder, random, "(");
+                if (random.nextInt(4) != 0) {
+                    functionalDependencySet(builder, random);
+                }
+                separator(builder, random, ")");
+                separator(builder, random, "#");
+                separator(builder, random, "(");
+                keySet(builder, random);
+                separator(builder, random, ")");
+            }
+        } else if (rule == NFRule.KEY_SET_SUBMISSION) {
+            keySet(builder, random);
+        } else if (rule == NFRule.NORMAL_FORM_SUBMISSION) {
+            builder.append(normalForm(random));
+            separator(builder, random, ".");
+            int count = random.nextInt(3);
+            for (int i = 0; i < count; i++) {
+                separator(builder, random, i > 0 ? ";" : "");
+                functionalDependency(builder, random);
+                separator(builder, random, ":");
+                builder.append(normalForm(random));
+            }
+        } else if (rule == NFRule.NORMAL_FORM_SPECIFICATION) {
+            separator(builder, random, normalForm(random));
+        } else if (rule == NFRule.FUNCTIONAL_DEPENDENCY_SET_SUBMISSION) {
+            functionalDependencySet(builder, random);
+        } else {
+            attributeSet(builder, random);
+        }
+        separator(builder, random, "");
+        return builder.toString();
+    }
+
+    private static void keySet(StringBuilder builder, Random random) {
+        int count = 1 + random.nextInt(3);
+        for (int i = 0; i < count; i++) {
+            separator(builder, random, i > 0 ? ";" : "");
+            attributeSet(builder, random);
+        }
+    }
+
+    private static void functionalDependencySet(StringBuilder builder, Random random) {
+        int count = 1 + random.nextInt(3);
+        for (int i = 0; i < count; i++) {
+            separator(builder, random, i > 0 ? ";" : "");
+            functionalDependency(builder, random);
+        }
+    }
+
+    private static void functionalDependency(StringBuilder builder, Random random) {
+        attributeSet(builder, random);
+        separator(builder, random, "->");
+        attributeSet(builder, random);
+    }
+
+    private static void attributeSet(StringBuilder builder, Random random) {
+        int count = 1 + random.nextInt(4);
+        for (int i = 0; i < count; i++) {
+            separator(builder, random, i > 0 ? "," : "");
+            builder.append(attribute(random));
+        }
+    }
+
+    private static String attribute(Random random) {
+        String[] names = {"A", "B", "C", "D", "a", "b", "Ab", "A1", "A_1", "x_", "BCNFx", "NF", "Straße"};
+        return names[random.nextInt(names.length)];
+    }
+
+    private static String normalForm(Random random) {
+        String[] levels = {"1NF", "2NF", "3NF", "BCNF"};
+        return levels[random.nextInt(levels.length)];
+    }
+
+    /**
+     * Appends the supplied literal surrounded by random white space.
+     */
+    private static void separator(StringBuilder builder, Random random, String literal) {
+        String[] whiteSpace = {"", "", "", " ", "  ", "\t", "\n", "\r\n"};
+        builder.append(whiteSpace[random.nextInt(whiteSpace.length)]);
+        builder.append(literal);
+        builder.append(whiteSpace[random.nextInt(whiteSpace.length)]);
+    }
+
+    private static String mutate(String input, Random random) {
+        StringBuilder builder = new StringBuilder(input);
+        int count = 1 + random.nextInt(2);
+        for (int i = 0; i < count; i++) {
+            int position = random.nextInt(builder.length() + 1);
+            char c = MUTATIONS.charAt(random.nextInt(MUTATIONS.length()));
+            switch (random.nextInt(3)) {
+                case 0 -> builder.insert(position, c);
+                case 1 -> {
+                    if (position < builder.length()) {
+                        builder.deleteCharAt(position);
+                    }
+                }
+                default -> {
+                    if (position < builder.length()) {
+                        builder.setCharAt(position, c);
+                    }
+                }
+            }
+        }
+        return builder.toString();
+    }
+}